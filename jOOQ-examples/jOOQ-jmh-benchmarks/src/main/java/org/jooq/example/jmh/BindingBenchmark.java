@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep1;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for binding and fetching values of various data types through
+ * <code>DefaultBinding</code>, using a {@link MockConnection}, which doesn't
+ * add any JDBC driver or network overhead.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BindingBenchmark {
+
+    @Param({ "INTEGER", "BIGINT", "NUMERIC", "VARCHAR", "LOCALDATE", "LOCALDATETIME", "UUID", "BLOB" })
+    public String                type;
+
+    @Param({ "100" })
+    public int                   rows;
+
+    DSLContext                   ctx;
+    Field<Object>                field;
+    Query                        insert;
+    ResultQuery<Record1<Object>> select;
+
+    @Setup
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void setup() {
+        DataType<Object> dataType = (DataType) dataType(type);
+        Object value = value(type);
+
+        field = field(name("V"), dataType);
+
+        // The result returned by the mock connection for each SELECT
+        DSLContext mock = DSL.using(SQLDialect.H2);
+        Result<Record1<Object>> result = mock.newResult(field);
+        for (int i = 0; i < rows; i++)
+            result.add(mock.newRecord(field).values(value));
+
+        ctx = DSL.using(new MockConnection(c -> new MockResult[] {
+            c.sql().startsWith("select")
+                ? new MockResult(rows, result)
+                : new MockResult(1)
+        }), SQLDialect.H2);
+
+        InsertValuesStep1<Record, Object> i = ctx.insertInto(table(name("T")), field);
+        for (int r = 0; r < rows; r++)
+            i = i.values(value);
+
+        insert = i;
+        select = ctx.select(field).from(table(name("T")));
+    }
+
+    @Benchmark
+    public int bind() {
+        return insert.execute();
+    }
+
+    @Benchmark
+    public Result<Record1<Object>> fetch() {
+        return select.fetch();
+    }
+
+    static DataType<?> dataType(String type) {
+        switch (type) {
+            case "INTEGER":       return SQLDataType.INTEGER;
+            case "BIGINT":        return SQLDataType.BIGINT;
+            case "NUMERIC":       return SQLDataType.NUMERIC(20, 5);
+            case "VARCHAR":       return SQLDataType.VARCHAR(100);
+            case "LOCALDATE":     return SQLDataType.LOCALDATE;
+            case "LOCALDATETIME": return SQLDataType.LOCALDATETIME;
+            case "UUID":          return SQLDataType.UUID;
+            case "BLOB":          return SQLDataType.BLOB;
+            default:              throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    static Object value(String type) {
+        switch (type) {
+            case "INTEGER":       return 42;
+            case "BIGINT":        return 42L;
+            case "NUMERIC":       return new BigDecimal("12345.67890");
+            case "VARCHAR":       return "The quick brown fox jumps over the lazy dog";
+            case "LOCALDATE":     return LocalDate.of(2021, 6, 1);
+            case "LOCALDATETIME": return LocalDateTime.of(2021, 6, 1, 12, 30, 15);
+            case "UUID":          return UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            case "BLOB":          return new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+            default:              throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.impl.DSL.name;
+
+import org.jooq.Name;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * A hand written equivalent of a generated <code>BOOK</code> table, which
+ * spares the benchmarks a code generation step.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class BookTable extends TableImpl<BookRecord> {
+
+    /**
+     * The reference instance of <code>BOOK</code>
+     */
+    public static final BookTable BOOK = new BookTable();
+
+    public final TableField<BookRecord, Integer>             ID        = createField(name("ID"), SQLDataType.INTEGER.nullable(false), this, "");
+    public final TableField<BookRecord, Integer>             AUTHOR_ID = createField(name("AUTHOR_ID"), SQLDataType.INTEGER.nullable(false), this, "");
+    public final TableField<BookRecord, String>              TITLE     = createField(name("TITLE"), SQLDataType.VARCHAR(400).nullable(false), this, "");
+    public final TableField<BookRecord, java.time.LocalDate> PUBLISHED = createField(name("PUBLISHED"), SQLDataType.LOCALDATE, this, "");
+    public final TableField<BookRecord, java.math.BigDecimal> PRICE    = createField(name("PRICE"), SQLDataType.NUMERIC(10, 2), this, "");
+
+    private BookTable() {
+        this(name("BOOK"), null);
+    }
+
+    private BookTable(Name alias, Table<BookRecord> aliased) {
+        super(alias, null, aliased);
+    }
+
+    @Override
+    public Class<BookRecord> getRecordType() {
+        return BookRecord.class;
+    }
+
+    @Override
+    public UniqueKey<BookRecord> getPrimaryKey() {
+        return Internal.createUniqueKey(this, name("PK_BOOK"), new TableField[] { ID }, true);
+    }
+
+    @Override
+    public BookTable as(String alias) {
+        return new BookTable(name(alias), this);
+    }
+
+    @Override
+    public BookTable as(Name alias) {
+        return new BookTable(alias, this);
+    }
+}
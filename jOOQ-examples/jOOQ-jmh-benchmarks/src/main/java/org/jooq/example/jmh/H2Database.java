@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.example.jmh.BookTable.BOOK;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An H2 in-memory database containing a <code>BOOK</code> table with
+ * {@link #rows} rows.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+public class H2Database {
+
+    @Param({ "1000" })
+    public int        rows;
+
+    public Connection connection;
+    public DSLContext ctx;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException, IOException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jooq-jmh-" + System.nanoTime(), "sa", "");
+        ctx = DSL.using(connection, SQLDialect.H2);
+
+        ctx.createTable(BOOK)
+           .columns(BOOK.fields())
+           .primaryKey(BOOK.ID)
+           .execute();
+
+        reset();
+    }
+
+    /**
+     * Truncate the <code>BOOK</code> table and fill it with {@link #rows}
+     * generated rows.
+     */
+    public void reset() throws IOException {
+        ctx.truncate(BOOK).execute();
+        ctx.loadInto(BOOK)
+           .batchAll()
+           .bulkAfter(500)
+           .loadArrays(Books.arrays(rows))
+           .fields(BOOK.fields())
+           .execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Generated <code>BOOK</code> data.
+     */
+    public static final class Books {
+
+        public static Object[][] arrays(int rows) {
+            Object[][] result = new Object[rows][];
+
+            for (int i = 0; i < rows; i++)
+                result[i] = new Object[] {
+                    i + 1,
+                    i % 10 + 1,
+                    "Book " + (i + 1),
+                    LocalDate.of(1900, 1, 1).plusDays(i),
+                    BigDecimal.valueOf(1000 + i, 2)
+                };
+
+            return result;
+        }
+
+        public static String csv(int rows) {
+            StringBuilder sb = new StringBuilder("ID,AUTHOR_ID,TITLE,PUBLISHED,PRICE\n");
+
+            for (Object[] row : arrays(rows))
+                sb.append(row[0]).append(',')
+                  .append(row[1]).append(',')
+                  .append('"').append(row[2]).append('"').append(',')
+                  .append(row[3]).append(',')
+                  .append(row[4]).append('\n');
+
+            return sb.toString();
+        }
+    }
+}
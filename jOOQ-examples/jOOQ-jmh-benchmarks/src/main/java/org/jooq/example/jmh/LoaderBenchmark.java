@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.example.jmh.BookTable.BOOK;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Loader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading CSV data into an H2 in-memory database, using various
+ * batch and bulk settings.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LoaderBenchmark {
+
+    @Param({ "1", "100" })
+    public int     bulkAfter;
+
+    @Param({ "1", "100" })
+    public int     batchAfter;
+
+    H2Database     db;
+    String         csv;
+
+    @Setup(Level.Trial)
+    public void setup(H2Database database) {
+        db = database;
+        csv = H2Database.Books.csv(db.rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        db.ctx.truncate(BOOK).execute();
+    }
+
+    @Benchmark
+    public Loader<BookRecord> loadCSV() throws IOException {
+        return db.ctx.loadInto(BOOK)
+                     .bulkAfter(bulkAfter)
+                     .batchAfter(batchAfter)
+                     .loadCSV(csv)
+                     .fields(BOOK.fields())
+                     .execute();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing SQL strings.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({ "SIMPLE_SELECT", "COMPLEX_SELECT", "INSERT", "DDL" })
+    public String sql;
+
+    Parser        parser;
+    String        input;
+
+    @Setup
+    public void setup() {
+        parser = DSL.using(SQLDialect.DEFAULT).parser();
+        input = sql(sql);
+    }
+
+    @Benchmark
+    public Queries parse() {
+        return parser.parse(input);
+    }
+
+    static String sql(String name) {
+        switch (name) {
+            case "SIMPLE_SELECT":
+                return "SELECT id, title FROM book WHERE id = 1";
+
+            case "COMPLEX_SELECT":
+                return "WITH t (author_id, books) AS ("
+                     + "  SELECT author_id, count(*) FROM book WHERE published >= DATE '2000-01-01' GROUP BY author_id"
+                     + ") "
+                     + "SELECT a.first_name, a.last_name, t.books, "
+                     + "  row_number() OVER (PARTITION BY a.country ORDER BY t.books DESC) AS rn, "
+                     + "  CASE WHEN t.books > 10 THEN 'prolific' ELSE 'regular' END AS category "
+                     + "FROM author AS a "
+                     + "JOIN t ON a.id = t.author_id "
+                     + "LEFT JOIN book_store AS s ON s.name IN (SELECT name FROM book_to_book_store WHERE stock > 0) "
+                     + "WHERE a.last_name LIKE 'A%' AND coalesce(a.year_of_birth, 0) BETWEEN 1900 AND 2000 "
+                     + "ORDER BY t.books DESC, a.last_name "
+                     + "OFFSET 10 ROWS FETCH NEXT 10 ROWS ONLY";
+
+            case "INSERT":
+                return "INSERT INTO book (id, author_id, title, published, price) "
+                     + "VALUES (1, 1, '1984', DATE '1949-06-08', 12.50), (2, 1, 'Animal Farm', DATE '1945-08-17', 9.90)";
+
+            case "DDL":
+                return "CREATE TABLE book ("
+                     + "  id INT NOT NULL, "
+                     + "  author_id INT NOT NULL, "
+                     + "  title VARCHAR(400) NOT NULL, "
+                     + "  published DATE, "
+                     + "  price DECIMAL(10, 2) DEFAULT 0, "
+                     + "  CONSTRAINT pk_book PRIMARY KEY (id), "
+                     + "  CONSTRAINT fk_book_author FOREIGN KEY (author_id) REFERENCES author (id)"
+                     + ")";
+
+            default:
+                throw new IllegalArgumentException("Unsupported SQL: " + name);
+        }
+    }
+}
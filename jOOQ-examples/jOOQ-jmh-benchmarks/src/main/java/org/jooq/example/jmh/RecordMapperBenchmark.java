@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.example.jmh.BookTable.BOOK;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping records to POJOs through the
+ * <code>DefaultRecordMapper</code>.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordMapperBenchmark {
+
+    Result<BookRecord> result;
+
+    @Setup
+    public void setup(H2Database db) {
+        result = db.ctx.selectFrom(BOOK).fetch();
+    }
+
+    @Benchmark
+    public List<MutableBook> intoMutablePojo() {
+        return result.into(MutableBook.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> intoImmutablePojo() {
+        return result.into(ImmutableBook.class);
+    }
+
+    /**
+     * A POJO that is populated through its setters.
+     */
+    public static class MutableBook {
+        private Integer    id;
+        private Integer    authorId;
+        private String     title;
+        private LocalDate  published;
+        private BigDecimal price;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public Integer getAuthorId() {
+            return authorId;
+        }
+
+        public void setAuthorId(Integer authorId) {
+            this.authorId = authorId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public LocalDate getPublished() {
+            return published;
+        }
+
+        public void setPublished(LocalDate published) {
+            this.published = published;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+
+    /**
+     * A POJO that is populated through its constructor.
+     */
+    public static class ImmutableBook {
+        public final Integer    id;
+        public final Integer    authorId;
+        public final String     title;
+        public final LocalDate  published;
+        public final BigDecimal price;
+
+        public ImmutableBook(Integer id, Integer authorId, String title, LocalDate published, BigDecimal price) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.published = published;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.example.jmh.BookTable.BOOK;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering typical <code>SELECT</code> and <code>INSERT</code>
+ * statements, without executing them.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({ "H2", "POSTGRES" })
+    public SQLDialect dialect;
+
+    DSLContext        ctx;
+    Query             select;
+    Query             insert;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(dialect);
+        select = select(ctx);
+        insert = insert(ctx);
+    }
+
+    @Benchmark
+    public String renderSelect() {
+        return ctx.render(select);
+    }
+
+    @Benchmark
+    public String renderInsert() {
+        return ctx.render(insert);
+    }
+
+    @Benchmark
+    public String buildAndRenderSelect() {
+        return ctx.render(select(ctx));
+    }
+
+    @Benchmark
+    public String buildAndRenderInsert() {
+        return ctx.render(insert(ctx));
+    }
+
+    static Query select(DSLContext ctx) {
+        BookTable b = BOOK.as("b");
+
+        return ctx.select(b.AUTHOR_ID, count(), DSL.sum(b.PRICE))
+                  .from(b)
+                  .where(b.PUBLISHED.ge(LocalDate.of(2000, 1, 1)))
+                  .and(b.TITLE.like(param("title", "%jOOQ%")))
+                  .groupBy(b.AUTHOR_ID)
+                  .having(count().gt(1))
+                  .orderBy(b.AUTHOR_ID.desc())
+                  .limit(10);
+    }
+
+    static Query insert(DSLContext ctx) {
+        return ctx.insertInto(BOOK)
+                  .columns(BOOK.ID, BOOK.AUTHOR_ID, BOOK.TITLE, BOOK.PUBLISHED, BOOK.PRICE)
+                  .values(1, 1, "1984", LocalDate.of(1949, 6, 8), new BigDecimal("12.50"))
+                  .values(2, 1, "Animal Farm", LocalDate.of(1945, 8, 17), new BigDecimal("9.90"))
+                  .onDuplicateKeyIgnore();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * A binary, columnar formatting type, which can be used to configure binary
+ * imports / exports.
+ * <p>
+ * The format is meant for efficient transfer of large results between jOOQ
+ * and other tools, avoiding the cost of encoding values as text. It consists
+ * of a header followed by batches of records. Within a batch, values are laid
+ * out by column as typed vectors, with a validity bitmap per column, similar
+ * to Apache Arrow's record batches. All numbers are big-endian: <code><pre>
+ * file     := magic version columns column* batch* 0
+ * magic    := "JOOQ"                             (4 bytes)
+ * version  := 1                                  (1 byte)
+ * columns  := column count                       (int)
+ * column   := name type kind                     (modified UTF-8, modified UTF-8, 1 byte)
+ * batch    := rows vector{columns}               (int &gt; 0, ...)
+ * vector   := validity (fixed | variable)
+ * validity := ceil(rows / 8) bytes, bit i set if row i is not null
+ * fixed    := rows values of the kind's width, null values are 0
+ * variable := offsets data                       (rows + 1 ints, bytes)</pre></code>
+ * <p>
+ * The <code>kind</code> of a column determines its vector encoding:
+ * <ul>
+ * <li><code>1</code>: <code>BOOLEAN</code> (1 byte)</li>
+ * <li><code>2</code>: <code>TINYINT</code> (1 byte)</li>
+ * <li><code>3</code>: <code>SMALLINT</code> (2 bytes)</li>
+ * <li><code>4</code>: <code>INTEGER</code> (4 bytes)</li>
+ * <li><code>5</code>: <code>BIGINT</code> (8 bytes)</li>
+ * <li><code>6</code>: <code>REAL</code> (4 bytes)</li>
+ * <li><code>7</code>: <code>DOUBLE</code> (8 bytes)</li>
+ * <li><code>8</code>: <code>DECIMAL</code> (variable, an int scale followed
+ * by the two's-complement unscaled value)</li>
+ * <li><code>9</code>: <code>BINARY</code> (variable)</li>
+ * <li><code>10</code>: <code>DATE</code> (4 bytes, days since the epoch)</li>
+ * <li><code>11</code>: <code>TIME</code> (8 bytes, nanoseconds of the
+ * day)</li>
+ * <li><code>12</code>: <code>TIMESTAMP</code> (12 bytes, seconds since the
+ * epoch and nanoseconds of the second, both without time zone)</li>
+ * <li><code>13</code>: <code>VARCHAR</code> (variable, UTF-8), also used for
+ * all other types, using their default text representation</li>
+ * </ul>
+ * <p>
+ * The type is immutable, meaning calls to setters like {@link #batchSize(int)}
+ * do not modify the original reference, but return a new one instead.
+ *
+ * @author Lukas Eder
+ */
+public final class BinaryFormat {
+
+    public final static BinaryFormat DEFAULT = new BinaryFormat();
+
+    final int                        batchSize;
+
+    public BinaryFormat() {
+        this(
+            1024
+        );
+    }
+
+    private BinaryFormat(
+        int batchSize
+    ) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The maximum number of records per batch, defaulting to
+     * <code>1024</code>.
+     * <p>
+     * When exporting from a {@link Cursor}, at most this many records are
+     * held in memory at any time.
+     */
+    public final BinaryFormat batchSize(int newBatchSize) {
+        return new BinaryFormat(
+            newBatchSize
+        );
+    }
+
+    /**
+     * The maximum number of records per batch, defaulting to
+     * <code>1024</code>.
+     */
+    public final int batchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.exception.DataAccessException;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Query} that has been compiled into an immutable template.
+ * <p>
+ * A compiled query holds the SQL string and the bind value slots of a query,
+ * rendered only once by {@link DSLContext#compile(Query)}. Each execution
+ * supplies new bind values only, skipping the construction and rendering of
+ * the {@link QueryPart} tree, as well as the resolution of its bind values.
+ * <p>
+ * Compiled queries are thread safe and can be shared between threads. Each
+ * call to {@link #bind(Object...)} produces a new, independent {@link Query},
+ * which is executed like any other query, including
+ * {@link ExecuteListener} lifecycle management.
+ * <p>
+ * Example: <code><pre>
+ * CompiledQuery&lt;RowCountQuery&gt; update = create.compile(
+ *     update(BOOK).set(BOOK.TITLE, param("title", ""))
+ *                 .where(BOOK.ID.eq(param("id", 0))));
+ *
+ * update.execute("1984", 1);
+ * update.execute("Animal Farm", 2);
+ * </pre></code>
+ *
+ * @param <Q> The query type produced by {@link #bind(Object...)}
+ * @author Lukas Eder
+ */
+public interface CompiledQuery<Q extends Query> {
+
+    /**
+     * The SQL string of this compiled query, as it was rendered by
+     * {@link DSLContext#compile(Query)}.
+     */
+    @NotNull
+    String getSQL();
+
+    /**
+     * The bind value slots of this compiled query, in the order in which they
+     * are bound.
+     * <p>
+     * The returned {@link Param} elements are copies of the original query's
+     * bind values. They carry the data type, the name (if any) and the default
+     * value of each slot. Modifying them has no effect on this compiled query.
+     * Bind values that were inlined into the SQL string when compiling the
+     * query are not contained in this list.
+     */
+    @NotNull
+    List<Param<?>> getParams();
+
+    /**
+     * Create a new executable query from this compiled query and a set of
+     * bind values.
+     *
+     * @param values The bind values, one per slot, in the order of
+     *            {@link #getParams()}. Values are converted to the data type
+     *            of their slot.
+     * @throws IllegalArgumentException If the number of bind values does not
+     *             match the number of slots.
+     */
+    @NotNull @CheckReturnValue
+    Q bind(Object... values) throws IllegalArgumentException;
+
+    /**
+     * Create a new executable query from this compiled query and a set of
+     * named bind values.
+     * <p>
+     * Slots whose name is not contained in the argument map are bound to their
+     * default value from {@link #getParams()}. A name that occurs in several
+     * slots binds all of them. Bind values created with {@link org.jooq.impl.DSL#val(Object)}
+     * have their bind index as name.
+     *
+     * @throws IllegalArgumentException If bind values are provided for a
+     *             query that was compiled with inlined bind values, and thus
+     *             has no slots.
+     */
+    @NotNull @CheckReturnValue
+    Q bind(Map<String, ?> values) throws IllegalArgumentException;
+
+    /**
+     * Execute this compiled query with a set of bind values.
+     * <p>
+     * This is the same as calling <code>bind(values).execute()</code>.
+     *
+     * @throws IllegalArgumentException If the number of bind values does not
+     *             match the number of slots.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Query#execute()
+     */
+    default int execute(Object... values) throws IllegalArgumentException, DataAccessException {
+        return bind(values).execute();
+    }
+}
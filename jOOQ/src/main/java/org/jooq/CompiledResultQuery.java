@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.exception.DataAccessException;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ResultQuery} that has been compiled into an immutable template.
+ * <p>
+ * In addition to the SQL string and bind value slots of a
+ * {@link CompiledQuery}, a compiled result query holds the layout of the
+ * result fields, which is reused to fetch the records of each execution.
+ * <p>
+ * Example: <code><pre>
+ * CompiledResultQuery&lt;BookRecord&gt; byAuthor = create.compile(
+ *     selectFrom(BOOK).where(BOOK.AUTHOR_ID.eq(param("author", 0))));
+ *
+ * Result&lt;BookRecord&gt; books1 = byAuthor.fetch(1);
+ * Result&lt;BookRecord&gt; books2 = byAuthor.bind(2).fetch();
+ * </pre></code>
+ *
+ * @param <R> The record type produced by executions of this query
+ * @author Lukas Eder
+ */
+public interface CompiledResultQuery<R extends Record> extends CompiledQuery<ResultQuery<R>>, Fields {
+
+    /**
+     * Execute this compiled query with a set of bind values and return the
+     * resulting records.
+     * <p>
+     * This is the same as calling <code>bind(values).fetch()</code>.
+     *
+     * @throws IllegalArgumentException If the number of bind values does not
+     *             match the number of slots.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see ResultQuery#fetch()
+     */
+    @NotNull
+    default Result<R> fetch(Object... values) throws IllegalArgumentException, DataAccessException {
+        return bind(values).fetch();
+    }
+}
@@ -893,6 +893,50 @@ public interface DSLContext extends Scope {
     @Support({ FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES })
     Block begin(Collection<? extends Statement> statements);
 
+    /**
+     * Compile a query into an immutable, thread safe template.
+     * <p>
+     * The query is rendered only once, using this <code>DSLContext</code>'s
+     * {@link Configuration}, regardless of the query's own configuration.
+     * Subsequent executions via {@link CompiledQuery#bind(Object...)} or
+     * {@link CompiledQuery#execute(Object...)} supply new bind values only,
+     * avoiding the overhead of re-rendering the query and re-resolving its
+     * bind values on each execution.
+     * <p>
+     * A compiled query is executed as a plain SQL statement, which is why
+     * queries whose execution is not fully described by their SQL string
+     * (e.g. DML statements with a <code>RETURNING</code> clause) should not be
+     * compiled. Changes to the original query after compilation are not
+     * reflected by the compiled query.
+     * <p>
+     * The compiled query's executions can be attached to other
+     * {@link Configuration}s, but executing them throws a
+     * {@link org.jooq.exception.ConfigurationException} if that
+     * configuration's {@link SQLDialect} or {@link Settings} differ from this
+     * <code>DSLContext</code>'s, as the SQL string was rendered for the
+     * latter. The <code>DSLContext</code>'s own {@link Settings} instance is
+     * trusted without comparison, so it must not be modified after compiling
+     * a query.
+     *
+     * @see CompiledQuery
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    CompiledQuery<RowCountQuery> compile(Query query);
+
+    /**
+     * Compile a result query into an immutable, thread safe template.
+     * <p>
+     * In addition to what is compiled by {@link #compile(Query)}, the result
+     * query's field layout and record type are frozen and reused to fetch
+     * the records of each execution.
+     *
+     * @see CompiledResultQuery
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    <R extends Record> CompiledResultQuery<R> compile(ResultQuery<R> query);
+
 
 
 
@@ -37,6 +37,7 @@
  */
 package org.jooq;
 
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.sql.ResultSet;
@@ -543,6 +544,48 @@ public interface Formattable {
      */
     void formatInsert(Writer writer, Table<?> table, Field<?>... fields) throws IOException;
 
+    /**
+     * Get a binary, columnar representation of this result.
+     * <p>
+     * This is the same as calling {@link #formatBinary(BinaryFormat)} with
+     * {@link BinaryFormat#DEFAULT}.
+     *
+     * @return The formatted result
+     * @see BinaryFormat
+     */
+    @NotNull
+    byte[] formatBinary();
+
+    /**
+     * Get a binary, columnar representation of this result.
+     * <p>
+     * The data can be read back with
+     * {@link LoaderSourceStep#loadBinary(InputStream)}. See
+     * {@link BinaryFormat} for a description of the format.
+     *
+     * @return The formatted result
+     * @see BinaryFormat
+     */
+    @NotNull
+    byte[] formatBinary(BinaryFormat format);
+
+    /**
+     * Like {@link #formatBinary()}, but the data is output onto an {@link OutputStream}.
+     *
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatBinary(OutputStream stream) throws IOException;
+
+    /**
+     * Like {@link #formatBinary(BinaryFormat)}, but the data is output onto an {@link OutputStream}.
+     * <p>
+     * When called on a {@link Cursor}, records are fetched and written in
+     * batches of {@link BinaryFormat#batchSize()} records.
+     *
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     */
+    void formatBinary(OutputStream stream, BinaryFormat format) throws IOException;
+
     /**
      * Get this result as XML.
      *
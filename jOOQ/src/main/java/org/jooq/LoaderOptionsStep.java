@@ -341,4 +341,41 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism strategy
+    // -------------------------------------------------------------------------
+
+    /**
+     * Execute bulk and batch statements on a given number of connections in
+     * parallel.
+     * <p>
+     * Rows are read from the source and preprocessed on the calling thread,
+     * grouped in chunks of {@link #bulkAfter(int)} times
+     * {@link #batchAfter(int)} rows (times {@link #commitAfter(int)} rows, if
+     * set), and then dispatched to the {@link Configuration#executorProvider()}.
+     * Each chunk is executed on its own connection obtained from the
+     * {@link Configuration#connectionProvider()}, so the
+     * <code>ConnectionProvider</code> must be able to hand out several
+     * connections concurrently, e.g. from a connection pool. At most
+     * <code>number</code> chunks are in flight at any time. The calling thread
+     * blocks when all of them are busy, which propagates backpressure to the
+     * source.
+     * <p>
+     * With parallelism, {@link #commitEach()} and {@link #commitAfter(int)}
+     * commit each chunk on its own connection, and
+     * {@link LoaderListenerStep#onRowEnd(LoaderRowListener)} is called once a
+     * row has been dispatched, not once it has been stored. This cannot be
+     * combined with {@link #commitAll()}, {@link #batchAll()}, or
+     * {@link #bulkAll()}.
+     * <p>
+     * If you don't specify a PARALLELISM OPTION, rows are executed on a single
+     * connection by the calling thread.
+     *
+     * @param number The maximum number of chunks that are executed
+     *            concurrently.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
 }
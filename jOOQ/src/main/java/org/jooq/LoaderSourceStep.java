@@ -42,10 +42,12 @@ import org.jetbrains.annotations.*;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.util.Iterator;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import org.xml.sax.InputSource;
@@ -114,6 +116,24 @@ public interface LoaderSourceStep<R extends Record> {
     @Support
     LoaderRowsStep<R> loadArrays(Stream<? extends Object[]> arrays);
 
+    /**
+     * Load in-memory data.
+     * <p>
+     * Like {@link #loadArrays(Object[][])}, providing the possibility of lazy
+     * materialisation of the input arrays from a reactive source. The
+     * {@link Flow.Publisher} is subscribed to when the <code>Loader</code> is
+     * executed, and only as many arrays are requested ahead of time as are
+     * needed to fill the configured bulk, batch and parallelism sizes, such
+     * that a fast publisher cannot overwhelm a slower database.
+     *
+     * @see #loadArrays(Object[][])
+     * @see LoaderOptionsStep#parallelism(int)
+     * @see Record#fromArray(Object[], Field...)
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderRowsStep<R> loadArrays(Flow.Publisher<? extends Object[]> arrays);
+
     /**
      * Load in-memory data.
      */
@@ -386,4 +406,47 @@ public interface LoaderSourceStep<R extends Record> {
     @Support
     LoaderJSONStep<R> loadJSON(Source source);
 
+    /**
+     * Load binary data, as produced by
+     * {@link Formattable#formatBinary(OutputStream, BinaryFormat)}.
+     * <p>
+     * The data contains its own header, which is made available to
+     * {@link LoaderRowsStep#fieldsCorresponding()} and
+     * {@link LoaderRowsStep#fields(LoaderFieldMapper)}.
+     *
+     * @see BinaryFormat
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderRowsStep<R> loadBinary(File file);
+
+    /**
+     * Load binary data, as produced by
+     * {@link Formattable#formatBinary(OutputStream, BinaryFormat)}.
+     * <p>
+     * The data contains its own header, which is made available to
+     * {@link LoaderRowsStep#fieldsCorresponding()} and
+     * {@link LoaderRowsStep#fields(LoaderFieldMapper)}.
+     *
+     * @see BinaryFormat
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderRowsStep<R> loadBinary(InputStream stream);
+
+    /**
+     * Load binary data, as produced by
+     * {@link Formattable#formatBinary(OutputStream, BinaryFormat)}.
+     * <p>
+     * The data contains its own header, which is made available to
+     * {@link LoaderRowsStep#fieldsCorresponding()} and
+     * {@link LoaderRowsStep#fields(LoaderFieldMapper)}.
+     *
+     * @see BinaryFormat
+     * @see Source#inputStream()
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderRowsStep<R> loadBinary(Source source);
+
 }
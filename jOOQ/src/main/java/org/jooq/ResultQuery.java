@@ -38,6 +38,8 @@
 
 package org.jooq;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -53,6 +55,9 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -60,6 +65,7 @@ import javax.sql.DataSource;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -312,6 +318,88 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @NotNull
     <Z extends Record> Stream<Z> fetchStreamInto(Table<Z> table) throws DataAccessException;
 
+    /**
+     * Stream this query, fetching partitions of its result in parallel.
+     * <p>
+     * This is the same as calling
+     * {@link #fetchStreamParallel(OrderField, Object, Object, int)} with the
+     * bounds of the partition field's values, which are fetched first, using
+     * <code>MIN()</code> and <code>MAX()</code>.
+     *
+     * @param partitionBy The numeric or temporal field whose values are
+     *            partitioned. If this is a {@link SortField}, the records are
+     *            returned in that order.
+     * @param parallelism The number of partitions, connections, and threads.
+     * @return The results.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException if the partition field is neither
+     *             numeric nor temporal.
+     * @throws UnsupportedOperationException if the partition field is a
+     *             {@link SortField}, and this query is not a
+     *             <code>SELECT</code> query, e.g. a plain SQL query.
+     * @see #fetchStreamParallel(OrderField, Object, Object, int)
+     */
+    @NotNull
+    <T> Stream<R> fetchStreamParallel(OrderField<T> partitionBy, int parallelism) throws DataAccessException;
+
+    /**
+     * Stream this query, fetching partitions of its result in parallel.
+     * <p>
+     * The range between <code>lowerBound</code> and <code>upperBound</code> is
+     * split into <code>parallelism</code> ranges of equal width. A copy of this
+     * query is executed for each range, with an additional predicate on the
+     * <code>partitionBy</code> field, as well as for the range's
+     * <code>NULL</code> values. The first and last ranges are unbounded, so the
+     * partitions together always produce this query's complete result. The
+     * copies are executed concurrently in the {@link Configuration}'s
+     * {@link ExecutorProvider}, each on a distinct connection from the
+     * {@link ConnectionProvider}.
+     * <p>
+     * If <code>partitionBy</code> is a {@link SortField}, the records are
+     * returned partition by partition, each partition being ordered by that
+     * field. <code>NULL</code> values are returned first or last, as specified
+     * by {@link SortField#nullsFirst()} or {@link SortField#nullsLast()}, or
+     * in the dialect's default order. If <code>partitionBy</code> is not a
+     * {@link SortField}, the records are returned in no particular order.
+     * <p>
+     * Only <code>SELECT</code> queries that produce one row per row of their
+     * <code>FROM</code> clause can be partitioned, i.e. queries without
+     * <code>DISTINCT</code>, <code>GROUP BY</code>, aggregate and window
+     * functions, <code>LIMIT</code>, and set operations, whose selected
+     * expressions are plain column references. Other queries, as well
+     * as queries whose {@link ConnectionProvider} does not provide distinct
+     * connections (e.g. within transactions), are executed as a single query
+     * on a single connection. Queries other than <code>SELECT</code> queries,
+     * e.g. plain SQL queries, can't be ordered by a {@link SortField}.
+     * <p>
+     * As the partitions are fetched on separate connections, and thus in
+     * separate transactions, they do not see a single consistent snapshot of
+     * the data. Rows that are modified concurrently may be returned by several
+     * partitions, or by none.
+     * <p>
+     * Clients should ensure the {@link Stream} is properly closed, e.g. in a
+     * try-with-resources statement, in order to stop all partition queries and
+     * release their connections.
+     *
+     * @param partitionBy The numeric or temporal field whose values are
+     *            partitioned. If this is a {@link SortField}, the records are
+     *            returned in that order.
+     * @param lowerBound The lower bound of the partitioned range, or
+     *            <code>null</code> to fetch the bounds.
+     * @param upperBound The upper bound of the partitioned range, or
+     *            <code>null</code> to fetch the bounds.
+     * @param parallelism The number of partitions, connections, and threads.
+     * @return The results.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException if the partition field is neither
+     *             numeric nor temporal.
+     * @throws UnsupportedOperationException if the partition field is a
+     *             {@link SortField}, and this query is not a
+     *             <code>SELECT</code> query, e.g. a plain SQL query.
+     */
+    @NotNull
+    <T> Stream<R> fetchStreamParallel(OrderField<T> partitionBy, @Nullable T lowerBound, @Nullable T upperBound, int parallelism) throws DataAccessException;
+
     /**
      * Stream this query.
      * <p>
@@ -392,6 +480,153 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @NotNull
     Cursor<R> fetchLazy() throws DataAccessException;
 
+    /**
+     * Execute the query and stream its results onto a {@link Writer} in CSV
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatCSV(Writer, CSVFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto an {@link OutputStream} in CSV
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatCSV(OutputStream, CSVFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatCSV(OutputStream stream, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto a {@link Writer} in JSON
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatJSON(Writer, JSONFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto an {@link OutputStream} in JSON
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatJSON(OutputStream, JSONFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatJSON(OutputStream stream, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto a {@link Writer} in XML
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatXML(Writer, XMLFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatXML(Writer writer, XMLFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto an {@link OutputStream} in XML
+     * format.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatXML(OutputStream, XMLFormat)}, closing the
+     * {@link Cursor} afterwards. Records are written as they are fetched, so
+     * at most one record is held in memory at any time, regardless of the size
+     * of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatXML(OutputStream stream, XMLFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream its results onto an {@link OutputStream} in
+     * the {@link BinaryFormat}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatBinary(OutputStream, BinaryFormat)}, closing the
+     * {@link Cursor} afterwards. Records are fetched and written in batches of
+     * {@link BinaryFormat#batchSize()} records, so memory consumption does not
+     * depend on the size of the result.
+     * <p>
+     * Depending on your JDBC driver's default behaviour, this may load the
+     * whole database result into the driver's memory. In order to indicate to
+     * the driver that you may not want to fetch all records at once, use
+     * {@link ResultQuery#fetchSize(int)} prior to calling this method.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for {@link java.io.IOException}, if anything goes wrong.
+     * @see ResultQuery#fetchSize(int)
+     */
+    void formatBinary(OutputStream stream, BinaryFormat format) throws DataAccessException, IOException;
+
     /**
      * Execute a query, possibly returning several result sets.
      * <p>
@@ -4576,6 +4811,258 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @NotNull
     <T, U> U[] fetchArray(Field<T> field, Converter<? super T, ? extends U> converter) throws DataAccessException;
 
+    /**
+     * Execute the query and return all values for a field index from the generated
+     * result as a primitive <code>int[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(int)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Integer</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    int[] fetchIntArray(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the generated
+     * result as a primitive <code>int[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(Field)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Integer</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    int[] fetchIntArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field index from the generated
+     * result as a primitive <code>long[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(int)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Long</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    long[] fetchLongArray(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the generated
+     * result as a primitive <code>long[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(Field)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Long</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    long[] fetchLongArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field index from the generated
+     * result as a primitive <code>double[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(int)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Double</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    double[] fetchDoubleArray(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and return all values for a field from the generated
+     * result as a primitive <code>double[]</code>.
+     * <p>
+     * Unlike {@link #fetchArray(Field)}, this does not create any
+     * intermediary {@link Record} or boxed <code>Double</code> instances,
+     * unless an intermediate {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    double[] fetchDoubleArray(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field index from the generated
+     * result as a {@link IntStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Integer</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link IntStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    IntStream fetchIntStream(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field from the generated
+     * result as a {@link IntStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Integer</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link IntStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    IntStream fetchIntStream(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field index from the generated
+     * result as a {@link LongStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Long</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link LongStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    LongStream fetchLongStream(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field from the generated
+     * result as a {@link LongStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Long</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link LongStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    LongStream fetchLongStream(Field<?> field) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field index from the generated
+     * result as a {@link DoubleStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Double</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link DoubleStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument fieldIndex is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    DoubleStream fetchDoubleStream(int fieldIndex) throws DataAccessException;
+
+    /**
+     * Execute the query and stream all values for a field from the generated
+     * result as a {@link DoubleStream}.
+     * <p>
+     * The values are read directly from the underlying JDBC
+     * {@link ResultSet} without creating any intermediary {@link Record} or
+     * boxed <code>Double</code> instances, unless an intermediate
+     * {@link Result} is requested through
+     * {@link Settings#getFetchIntermediateResult()}. <code>NULL</code> values
+     * are fetched as <code>0</code>, as in JDBC.
+     * <p>
+     * Clients should ensure the {@link DoubleStream} is properly closed, e.g. in
+     * a try-with-resources statement.
+     *
+     * @return The result.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException If the argument field is
+     *             not contained in the {@link #fieldsRow()}
+     * @throws DataTypeException wrong type conversion
+     */
+    @NotNull
+    DoubleStream fetchDoubleStream(Field<?> field) throws DataAccessException;
+
     /**
      * Fetch results into a custom mapper callback.
      * <p>
@@ -39,6 +39,7 @@ package org.jooq;
 
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -55,7 +56,7 @@ import java.nio.charset.CharsetDecoder;
 import org.jooq.exception.IOException;
 
 /**
- * A source of text data.
+ * A source of text or binary data.
  */
 public final class Source {
 
@@ -212,6 +213,30 @@ public final class Source {
         }
     }
 
+    /**
+     * Produce an input stream of the binary data from this source.
+     *
+     * @throws IOException When something goes wrong creating an input stream
+     *             from this source.
+     * @throws IllegalStateException When this is a source of character data,
+     *             i.e. a {@link String} or a {@link Reader}.
+     */
+    public final InputStream inputStream() throws IOException {
+        try {
+            if (bytes != null)
+                return new ByteArrayInputStream(bytes);
+            else if (inputStream != null)
+                return inputStream;
+            else if (file != null)
+                return new BufferedInputStream(new FileInputStream(file));
+            else
+                throw new IllegalStateException("Could not produce an input stream from this source");
+        }
+        catch (java.io.IOException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Read the entire {@link #reader()} into a String, for convenience.
      *
@@ -0,0 +1,39 @@
+
+package org.jooq.conf;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for BatchInsertMode.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="BatchInsertMode"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="JDBC_BATCH"/&gt;
+ *     &lt;enumeration value="MULTI_ROW_VALUES"/&gt;
+ *     &lt;enumeration value="UNNEST_ARRAYS"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "BatchInsertMode")
+@XmlEnum
+public enum BatchInsertMode {
+
+    JDBC_BATCH,
+    MULTI_ROW_VALUES,
+    UNNEST_ARRAYS;
+
+    public String value() {
+        return name();
+    }
+
+    public static BatchInsertMode fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
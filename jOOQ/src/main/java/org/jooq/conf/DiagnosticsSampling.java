@@ -0,0 +1,37 @@
+
+package org.jooq.conf;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for DiagnosticsSampling.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="DiagnosticsSampling"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="EVERY_NTH_STATEMENT"/&gt;
+ *     &lt;enumeration value="STATEMENT_HASH"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "DiagnosticsSampling")
+@XmlEnum
+public enum DiagnosticsSampling {
+
+    EVERY_NTH_STATEMENT,
+    STATEMENT_HASH;
+
+    public String value() {
+        return name();
+    }
+
+    public static DiagnosticsSampling fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
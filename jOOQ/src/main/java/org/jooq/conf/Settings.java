@@ -171,6 +171,13 @@ public class Settings
     protected InvocationOrder executeListenerEndInvocationOrder = InvocationOrder.DEFAULT;
     @XmlElement(defaultValue = "true")
     protected Boolean executeLogging = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsAsync = false;
+    @XmlElement(defaultValue = "1")
+    protected Integer diagnosticsSampleRate = 1;
+    @XmlElement(defaultValue = "EVERY_NTH_STATEMENT")
+    @XmlSchemaType(name = "string")
+    protected DiagnosticsSampling diagnosticsSampling = DiagnosticsSampling.EVERY_NTH_STATEMENT;
     @XmlElement(defaultValue = "true")
     protected Boolean updateRecordVersion = true;
     @XmlElement(defaultValue = "true")
@@ -198,6 +205,8 @@ public class Settings
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "0")
+    protected Integer cachePreparedStatementLRUCacheSize = 0;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -230,8 +239,17 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer fetchLazyPrefetchSize = 0;
+    @XmlElement(defaultValue = "256")
+    protected Integer fetchStreamChunkSize = 256;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "JDBC_BATCH")
+    @XmlSchemaType(name = "string")
+    protected BatchInsertMode batchInsertMode = BatchInsertMode.JDBC_BATCH;
+    @XmlElement(defaultValue = "1")
+    protected Integer batchParallelism = 1;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -1527,6 +1545,62 @@ public class Settings
         this.executeLogging = value;
     }
 
+    /**
+     * Whether the DiagnosticsListener duplicateStatements and repeatedStatements events, which require parsing SQL strings, are computed asynchronously in the Configuration's ExecutorProvider, rather than on the calling thread. Statements are not diagnosed while 64 diagnostics tasks of a connection are pending, and closing a connection waits for its pending tasks.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsAsync() {
+        return diagnosticsAsync;
+    }
+
+    /**
+     * Sets the value of the diagnosticsAsync property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsAsync(Boolean value) {
+        this.diagnosticsAsync = value;
+    }
+
+    /**
+     * Diagnose only 1 in N statements, where N is this sample rate, to reduce the overhead of DiagnosticsListener. Statements that are not sampled bypass all diagnostics. A sample rate of 1 diagnoses all statements.
+     * 
+     */
+    public Integer getDiagnosticsSampleRate() {
+        return diagnosticsSampleRate;
+    }
+
+    /**
+     * Diagnose only 1 in N statements, where N is this sample rate, to reduce the overhead of DiagnosticsListener. Statements that are not sampled bypass all diagnostics. A sample rate of 1 diagnoses all statements.
+     * 
+     */
+    public void setDiagnosticsSampleRate(Integer value) {
+        this.diagnosticsSampleRate = value;
+    }
+
+    /**
+     * How statements are sampled for diagnostics, if diagnosticsSampleRate is greater than 1.
+     * 
+     */
+    public DiagnosticsSampling getDiagnosticsSampling() {
+        return diagnosticsSampling;
+    }
+
+    /**
+     * How statements are sampled for diagnostics, if diagnosticsSampleRate is greater than 1.
+     * 
+     */
+    public void setDiagnosticsSampling(DiagnosticsSampling value) {
+        this.diagnosticsSampling = value;
+    }
+
     /**
      * Whether store(), insert(), and update() methods should update the record version prior to the operation, for use with {@link #executeWithOptimisticLocking}.
      * 
@@ -1829,6 +1903,22 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * The maximum number of JDBC PreparedStatements that are kept open and reused per JDBC Connection, if that Connection outlives a single execution (e.g. when using a DefaultConnectionProvider, or within a transaction). Set to 0 to disable statement caching.
+     * 
+     */
+    public Integer getCachePreparedStatementLRUCacheSize() {
+        return cachePreparedStatementLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of JDBC PreparedStatements that are kept open and reused per JDBC Connection, if that Connection outlives a single execution (e.g. when using a DefaultConnectionProvider, or within a transaction). Set to 0 to disable statement caching.
+     * 
+     */
+    public void setCachePreparedStatementLRUCacheSize(Integer value) {
+        this.cachePreparedStatementLRUCacheSize = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -2154,6 +2244,38 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The number of records that a Cursor produced by ResultQuery.fetchLazy() reads ahead of its consumer, in a producer thread of the Configuration's ExecutorProvider, or 0 if records are read on the consumer thread. ExecuteListener record events are then fired on the producer thread. While the producer reads the JDBC ResultSet, executing other queries on the same JDBC Connection from another thread (e.g. within the same transaction) fails with a DataAccessException, as JDBC Connections must not be used concurrently. Cursors should be closed to stop the producer, otherwise it is only stopped once the Cursor is garbage collected.
+     * 
+     */
+    public Integer getFetchLazyPrefetchSize() {
+        return fetchLazyPrefetchSize;
+    }
+
+    /**
+     * The number of records that a Cursor produced by ResultQuery.fetchLazy() reads ahead of its consumer, in a producer thread of the Configuration's ExecutorProvider, or 0 if records are read on the consumer thread. ExecuteListener record events are then fired on the producer thread. While the producer reads the JDBC ResultSet, executing other queries on the same JDBC Connection from another thread (e.g. within the same transaction) fails with a DataAccessException, as JDBC Connections must not be used concurrently. Cursors should be closed to stop the producer, otherwise it is only stopped once the Cursor is garbage collected.
+     * 
+     */
+    public void setFetchLazyPrefetchSize(Integer value) {
+        this.fetchLazyPrefetchSize = value;
+    }
+
+    /**
+     * The number of records that a parallel Stream produced by ResultQuery.fetchStream() or Cursor.stream() hands to each fork join task. The records are still fetched sequentially from the underlying Cursor.
+     * 
+     */
+    public Integer getFetchStreamChunkSize() {
+        return fetchStreamChunkSize;
+    }
+
+    /**
+     * The number of records that a parallel Stream produced by ResultQuery.fetchStream() or Cursor.stream() hands to each fork join task. The records are still fetched sequentially from the underlying Cursor.
+     * 
+     */
+    public void setFetchStreamChunkSize(Integer value) {
+        this.fetchStreamChunkSize = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -2170,6 +2292,46 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * How batch inserts of records and single INSERT statements with many bind value sets are executed.
+     * <p>
+     * By default, each row is added to a JDBC batch. Alternatively, rows can be sent in chunked multi row
+     * <code>INSERT .. VALUES</code> statements, respecting the dialect's bind value limits, or, in dialects supporting it,
+     * as arrays, one per column, which are unnested into rows by an <code>INSERT .. SELECT</code> statement.
+     * 
+     */
+    public BatchInsertMode getBatchInsertMode() {
+        return batchInsertMode;
+    }
+
+    /**
+     * How batch inserts of records and single INSERT statements with many bind value sets are executed.
+     * <p>
+     * By default, each row is added to a JDBC batch. Alternatively, rows can be sent in chunked multi row
+     * <code>INSERT .. VALUES</code> statements, respecting the dialect's bind value limits, or, in dialects supporting it,
+     * as arrays, one per column, which are unnested into rows by an <code>INSERT .. SELECT</code> statement.
+     * 
+     */
+    public void setBatchInsertMode(BatchInsertMode value) {
+        this.batchInsertMode = value;
+    }
+
+    /**
+     * The number of connections acquired from the ConnectionProvider, over which the statements of a DSLContext.batch(Query...) call are executed in parallel, in the Configuration's ExecutorProvider. This is only safe for statements that do not depend on each other. Batches run serially if the ConnectionProvider cannot provide distinct connections, e.g. within transactions.
+     * 
+     */
+    public Integer getBatchParallelism() {
+        return batchParallelism;
+    }
+
+    /**
+     * The number of connections acquired from the ConnectionProvider, over which the statements of a DSLContext.batch(Query...) call are executed in parallel, in the Configuration's ExecutorProvider. This is only safe for statements that do not depend on each other. Batches run serially if the ConnectionProvider cannot provide distinct connections, e.g. within transactions.
+     * 
+     */
+    public void setBatchParallelism(Integer value) {
+        this.batchParallelism = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -3419,6 +3581,29 @@ public class Settings
         return this;
     }
 
+    public Settings withDiagnosticsAsync(Boolean value) {
+        setDiagnosticsAsync(value);
+        return this;
+    }
+
+    /**
+     * Diagnose only 1 in N statements, where N is this sample rate, to reduce the overhead of DiagnosticsListener. Statements that are not sampled bypass all diagnostics. A sample rate of 1 diagnoses all statements.
+     * 
+     */
+    public Settings withDiagnosticsSampleRate(Integer value) {
+        setDiagnosticsSampleRate(value);
+        return this;
+    }
+
+    /**
+     * How statements are sampled for diagnostics, if diagnosticsSampleRate is greater than 1.
+     * 
+     */
+    public Settings withDiagnosticsSampling(DiagnosticsSampling value) {
+        setDiagnosticsSampling(value);
+        return this;
+    }
+
     public Settings withUpdateRecordVersion(Boolean value) {
         setUpdateRecordVersion(value);
         return this;
@@ -3492,6 +3677,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of JDBC PreparedStatements that are kept open and reused per JDBC Connection, if that Connection outlives a single execution (e.g. when using a DefaultConnectionProvider, or within a transaction). Set to 0 to disable statement caching.
+     * 
+     */
+    public Settings withCachePreparedStatementLRUCacheSize(Integer value) {
+        setCachePreparedStatementLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -3595,6 +3789,24 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of records that a Cursor produced by ResultQuery.fetchLazy() reads ahead of its consumer, in a producer thread of the Configuration's ExecutorProvider, or 0 if records are read on the consumer thread. ExecuteListener record events are then fired on the producer thread. While the producer reads the JDBC ResultSet, executing other queries on the same JDBC Connection from another thread (e.g. within the same transaction) fails with a DataAccessException, as JDBC Connections must not be used concurrently. Cursors should be closed to stop the producer, otherwise it is only stopped once the Cursor is garbage collected.
+     * 
+     */
+    public Settings withFetchLazyPrefetchSize(Integer value) {
+        setFetchLazyPrefetchSize(value);
+        return this;
+    }
+
+    /**
+     * The number of records that a parallel Stream produced by ResultQuery.fetchStream() or Cursor.stream() hands to each fork join task. The records are still fetched sequentially from the underlying Cursor.
+     * 
+     */
+    public Settings withFetchStreamChunkSize(Integer value) {
+        setFetchStreamChunkSize(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -3604,6 +3816,28 @@ public class Settings
         return this;
     }
 
+    /**
+     * How batch inserts of records and single INSERT statements with many bind value sets are executed.
+     * <p>
+     * By default, each row is added to a JDBC batch. Alternatively, rows can be sent in chunked multi row
+     * <code>INSERT .. VALUES</code> statements, respecting the dialect's bind value limits, or, in dialects supporting it,
+     * as arrays, one per column, which are unnested into rows by an <code>INSERT .. SELECT</code> statement.
+     * 
+     */
+    public Settings withBatchInsertMode(BatchInsertMode value) {
+        setBatchInsertMode(value);
+        return this;
+    }
+
+    /**
+     * The number of connections acquired from the ConnectionProvider, over which the statements of a DSLContext.batch(Query...) call are executed in parallel, in the Configuration's ExecutorProvider. This is only safe for statements that do not depend on each other. Batches run serially if the ConnectionProvider cannot provide distinct connections, e.g. within transactions.
+     * 
+     */
+    public Settings withBatchParallelism(Integer value) {
+        setBatchParallelism(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -4000,6 +4234,9 @@ public class Settings
         builder.append("executeListenerStartInvocationOrder", executeListenerStartInvocationOrder);
         builder.append("executeListenerEndInvocationOrder", executeListenerEndInvocationOrder);
         builder.append("executeLogging", executeLogging);
+        builder.append("diagnosticsAsync", diagnosticsAsync);
+        builder.append("diagnosticsSampleRate", diagnosticsSampleRate);
+        builder.append("diagnosticsSampling", diagnosticsSampling);
         builder.append("updateRecordVersion", updateRecordVersion);
         builder.append("updateRecordTimestamp", updateRecordTimestamp);
         builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
@@ -4013,6 +4250,7 @@ public class Settings
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cachePreparedStatementLRUCacheSize", cachePreparedStatementLRUCacheSize);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -4028,7 +4266,11 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchLazyPrefetchSize", fetchLazyPrefetchSize);
+        builder.append("fetchStreamChunkSize", fetchStreamChunkSize);
         builder.append("batchSize", batchSize);
+        builder.append("batchInsertMode", batchInsertMode);
+        builder.append("batchParallelism", batchParallelism);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -4557,6 +4799,33 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsAsync == null) {
+            if (other.diagnosticsAsync!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsync.equals(other.diagnosticsAsync)) {
+                return false;
+            }
+        }
+        if (diagnosticsSampleRate == null) {
+            if (other.diagnosticsSampleRate!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSampleRate.equals(other.diagnosticsSampleRate)) {
+                return false;
+            }
+        }
+        if (diagnosticsSampling == null) {
+            if (other.diagnosticsSampling!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSampling.equals(other.diagnosticsSampling)) {
+                return false;
+            }
+        }
         if (updateRecordVersion == null) {
             if (other.updateRecordVersion!= null) {
                 return false;
@@ -4674,6 +4943,15 @@ public class Settings
                 return false;
             }
         }
+        if (cachePreparedStatementLRUCacheSize == null) {
+            if (other.cachePreparedStatementLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementLRUCacheSize.equals(other.cachePreparedStatementLRUCacheSize)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -4809,6 +5087,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchLazyPrefetchSize == null) {
+            if (other.fetchLazyPrefetchSize!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchLazyPrefetchSize.equals(other.fetchLazyPrefetchSize)) {
+                return false;
+            }
+        }
+        if (fetchStreamChunkSize == null) {
+            if (other.fetchStreamChunkSize!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchStreamChunkSize.equals(other.fetchStreamChunkSize)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -4818,6 +5114,24 @@ public class Settings
                 return false;
             }
         }
+        if (batchInsertMode == null) {
+            if (other.batchInsertMode!= null) {
+                return false;
+            }
+        } else {
+            if (!batchInsertMode.equals(other.batchInsertMode)) {
+                return false;
+            }
+        }
+        if (batchParallelism == null) {
+            if (other.batchParallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!batchParallelism.equals(other.batchParallelism)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -5228,6 +5542,9 @@ public class Settings
         result = ((prime*result)+((executeListenerStartInvocationOrder == null)? 0 :executeListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((executeListenerEndInvocationOrder == null)? 0 :executeListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((executeLogging == null)? 0 :executeLogging.hashCode()));
+        result = ((prime*result)+((diagnosticsAsync == null)? 0 :diagnosticsAsync.hashCode()));
+        result = ((prime*result)+((diagnosticsSampleRate == null)? 0 :diagnosticsSampleRate.hashCode()));
+        result = ((prime*result)+((diagnosticsSampling == null)? 0 :diagnosticsSampling.hashCode()));
         result = ((prime*result)+((updateRecordVersion == null)? 0 :updateRecordVersion.hashCode()));
         result = ((prime*result)+((updateRecordTimestamp == null)? 0 :updateRecordTimestamp.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLocking == null)? 0 :executeWithOptimisticLocking.hashCode()));
@@ -5241,6 +5558,7 @@ public class Settings
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementLRUCacheSize == null)? 0 :cachePreparedStatementLRUCacheSize.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
@@ -5256,7 +5574,11 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchLazyPrefetchSize == null)? 0 :fetchLazyPrefetchSize.hashCode()));
+        result = ((prime*result)+((fetchStreamChunkSize == null)? 0 :fetchStreamChunkSize.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((batchInsertMode == null)? 0 :batchInsertMode.hashCode()));
+        result = ((prime*result)+((batchParallelism == null)? 0 :batchParallelism.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
@@ -188,6 +188,36 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * The maximum number of prepared statements cached per connection, or
+     * <code>0</code> if prepared statements are not cached.
+     */
+    public static final int preparedStatementCacheSize(Settings settings) {
+        return defaultIfNull(settings.getCachePreparedStatementLRUCacheSize(), 0);
+    }
+
+    /**
+     * The number of records read ahead by lazy cursors, or <code>0</code> if
+     * records are not prefetched.
+     */
+    public static final int fetchLazyPrefetchSize(Settings settings) {
+        return defaultIfNull(settings.getFetchLazyPrefetchSize(), 0);
+    }
+
+    /**
+     * The number of records per split of a lazy cursor's {@link java.util.Spliterator}.
+     */
+    public static final int fetchStreamChunkSize(Settings settings) {
+        return Math.max(1, defaultIfNull(settings.getFetchStreamChunkSize(), 256));
+    }
+
+    /**
+     * The maximum number of entries in the parsing connection cache.
+     */
+    public static final int parsingConnectionCacheSize(Settings settings) {
+        return defaultIfNull(settings.getCacheParsingConnectionLRUCacheSize(), 8192);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -126,7 +126,7 @@ abstract class AbstractAttachableQueryPart extends AbstractQueryPart implements
             case NAMED_OR_INLINED:
                 return create().renderNamedOrInlinedParams(this);
             case FORCE_INDEXED:
-                return create().renderContext().paramType(paramType).visit(this).render();
+                return DefaultRenderContext.renderAndRelease(create().renderContext().paramType(paramType).visit(this));
         }
 
         throw new IllegalArgumentException("ParamType not supported: " + paramType);
@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.unmodifiableList;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.impl.DefaultRenderContext.renderAndRelease;
+import static org.jooq.impl.Tools.EMPTY_OBJECT;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.CompiledQuery;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.DDLQuery;
+import org.jooq.DataType;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.exception.ConfigurationException;
+import org.jooq.impl.DefaultRenderContext.ForceInlineSignal;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A base implementation for {@link CompiledQuery}.
+ * <p>
+ * The query is rendered only once, at construction time. Its bind values are
+ * reduced to a bind plan of slots, each consisting of a {@link DataType}
+ * (and thus a resolved {@link org.jooq.Binding}), a name and a default value.
+ * All state is immutable, so executions never need to synchronise.
+ *
+ * @author Lukas Eder
+ */
+abstract class AbstractCompiledQuery<Q extends Query> implements CompiledQuery<Q> {
+
+    final Configuration         configuration;
+    final String                sql;
+    final int                   skipUpdateCounts;
+
+    /**
+     * The dialect and settings that the SQL string was rendered with, along
+     * with a snapshot of the settings for configurations that use another
+     * {@link Settings} instance.
+     */
+    private final SQLDialect    dialect;
+    private final Settings      settings;
+    private final Settings      snapshot;
+
+    /**
+     * Whether the query was rendered with inlined bind values, in case of
+     * which there are no slots.
+     */
+    final boolean               inlined;
+    private final DataType<?>[] types;
+    private final String[]      names;
+    private final Object[]      defaults;
+
+    AbstractCompiledQuery(Configuration configuration, Query query) {
+        DefaultRenderContext render;
+        String s;
+        List<Param<?>> params = null;
+
+        // The same rules as in AbstractQuery.getSQL0() apply, except that
+        // they are applied only once for all executions
+        if (query instanceof DDLQuery || !executePreparedStatements(configuration.settings())) {
+            render = new DefaultRenderContext(configuration);
+            s = renderAndRelease(render.paramType(INLINED).visit(query));
+        }
+        else {
+            try {
+                render = new DefaultRenderContext(configuration);
+                render.data(DATA_COUNT_BIND_VALUES, true);
+                s = renderAndRelease(render.visit(query));
+                params = render.bindValues();
+            }
+            catch (ForceInlineSignal e) {
+                render = new DefaultRenderContext(configuration);
+                s = renderAndRelease(render.paramType(INLINED).visit(query));
+            }
+        }
+
+        int size = params == null ? 0 : params.size();
+
+        this.configuration = configuration;
+        this.dialect = configuration.dialect();
+        this.settings = configuration.settings();
+        this.snapshot = SettingsTools.clone(settings);
+        this.sql = s;
+        this.skipUpdateCounts = render.skipUpdateCounts();
+        this.inlined = params == null;
+        this.types = new DataType[size];
+        this.names = new String[size];
+        this.defaults = new Object[size];
+
+        // Copy the slots, as the original Params may still be modified by
+        // their query after compilation
+        for (int i = 0; i < size; i++) {
+            Param<?> param = params.get(i);
+
+            types[i] = param.getDataType();
+            names[i] = param.getParamName() != null ? param.getParamName() : Integer.toString(i + 1);
+            defaults[i] = param.getValue();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: CompiledQuery API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final String getSQL() {
+        return sql;
+    }
+
+    @Override
+    public final List<Param<?>> getParams() {
+        return unmodifiableList(params(defaults));
+    }
+
+    @Override
+    public final Q bind(Object... values) {
+        if (values == null)
+            values = EMPTY_OBJECT;
+
+        if (values.length != types.length)
+            throw new IllegalArgumentException("Compiled query has " + types.length + " bind value slots, but " + values.length + " bind values were provided");
+
+        return bind0(inlined ? null : params(values));
+    }
+
+    @Override
+    public final Q bind(Map<String, ?> values) {
+        if (inlined && !values.isEmpty())
+            throw new IllegalArgumentException("Compiled query has no bind value slots, but " + values.size() + " bind values were provided");
+
+        Object[] row = defaults.clone();
+
+        for (int i = 0; i < names.length; i++)
+            if (values.containsKey(names[i]))
+                row[i] = values.get(names[i]);
+
+        return bind0(inlined ? null : params(row));
+    }
+
+    /**
+     * Create a new executable query from a new set of slot values, or
+     * <code>null</code> if the query was compiled with inlined bind values.
+     */
+    abstract Q bind0(QueryPartList<Param<?>> params);
+
+    // -------------------------------------------------------------------------
+    // XXX: Internal API for the executable queries
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final QueryPartList<Param<?>> params(Object[] values) {
+        QueryPartList<Param<?>> result = new QueryPartList<>();
+
+        for (int i = 0; i < types.length; i++) {
+            DataType type = types[i];
+            result.add(new Val(type.convert(values[i]), type, names[i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * The pre-rendered SQL string along with a set of slot values, to be
+     * executed in lieu of rendering the query again.
+     *
+     * @throws ConfigurationException If the executing configuration's dialect
+     *             or settings differ from those the SQL string was rendered
+     *             with, e.g. when the query was attached to another
+     *             configuration.
+     */
+    final Rendered rendered(Configuration c, QueryPartList<Param<?>> params) {
+        if (c.dialect() != dialect)
+            throw new ConfigurationException("Query was compiled for dialect " + dialect + ", but is executed with dialect " + c.dialect() + ": " + sql);
+
+        // The compile time settings are not expected to be modified in place
+        if (c.settings() != settings && !snapshot.equals(c.settings()))
+            throw new ConfigurationException("Query was compiled with different Settings than it is executed with: " + sql);
+
+        return new Rendered(sql, params, skipUpdateCounts);
+    }
+
+    /**
+     * Render or bind the pre-rendered SQL string along with a set of slot
+     * values, when an executable query is used as an ordinary
+     * {@link org.jooq.QueryPart}, e.g. in {@link Query#getSQL()}.
+     */
+    final void accept(Context<?> ctx, QueryPartList<Param<?>> params) {
+        if (params == null)
+            ctx.visit(DSL.sql(sql));
+        else
+            ctx.visit(DSL.sql(sql, params.toArray()));
+    }
+}
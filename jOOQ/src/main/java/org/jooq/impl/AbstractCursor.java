@@ -37,10 +37,11 @@
  */
 package org.jooq.impl;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -52,6 +53,8 @@ import org.jooq.RecordHandler;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.Table;
+import org.jooq.conf.SettingsTools;
+import org.jooq.tools.Convert;
 
 /**
  * @author Lukas Eder
@@ -64,13 +67,111 @@ abstract class AbstractCursor<R extends Record> extends AbstractResult<R> implem
 
     @Override
     public final Stream<R> stream() {
-        return StreamSupport.stream(
-            Spliterators.spliteratorUnknownSize(
-                iterator(),
-                Spliterator.ORDERED | Spliterator.NONNULL
-            ),
-            false
-        ).onClose(() -> close());
+        return StreamSupport.stream(spliterator(), false).onClose(() -> close());
+    }
+
+    /**
+     * A spliterator that splits off chunks of records, which are fetched
+     * sequentially from this cursor, for parallel streams.
+     */
+    @Override
+    public final Spliterator<R> spliterator() {
+        return new ChunkedSpliterator<>(
+            iterator(),
+            SettingsTools.fetchStreamChunkSize(Tools.settings(configuration)),
+            Spliterator.ORDERED | Spliterator.NONNULL
+        );
+    }
+
+    /**
+     * Iterate over the values of a single column as <code>int</code> values,
+     * fetching <code>NULL</code> as <code>0</code>.
+     * <p>
+     * This default implementation unboxes values from the cursor's records.
+     * Subclasses may read values directly, without creating records.
+     */
+    PrimitiveIterator.OfInt intIterator(int fieldIndex) {
+        Iterator<R> it = iterator();
+
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return intValue(it.next().get(fieldIndex));
+            }
+        };
+    }
+
+    /**
+     * Iterate over the values of a single column as <code>long</code> values,
+     * fetching <code>NULL</code> as <code>0</code>.
+     *
+     * @see #intIterator(int)
+     */
+    PrimitiveIterator.OfLong longIterator(int fieldIndex) {
+        Iterator<R> it = iterator();
+
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return longValue(it.next().get(fieldIndex));
+            }
+        };
+    }
+
+    /**
+     * Iterate over the values of a single column as <code>double</code>
+     * values, fetching <code>NULL</code> as <code>0</code>.
+     *
+     * @see #intIterator(int)
+     */
+    PrimitiveIterator.OfDouble doubleIterator(int fieldIndex) {
+        Iterator<R> it = iterator();
+
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return doubleValue(it.next().get(fieldIndex));
+            }
+        };
+    }
+
+    static final int intValue(Object value) {
+        return value == null
+             ? 0
+             : value instanceof Number
+             ? ((Number) value).intValue()
+             : Convert.convert(value, int.class);
+    }
+
+    static final long longValue(Object value) {
+        return value == null
+             ? 0L
+             : value instanceof Number
+             ? ((Number) value).longValue()
+             : Convert.convert(value, long.class);
+    }
+
+    static final double doubleValue(Object value) {
+        return value == null
+             ? 0.0
+             : value instanceof Number
+             ? ((Number) value).doubleValue()
+             : Convert.convert(value, double.class);
     }
 
     @Override
@@ -183,7 +183,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
 
 
-    private final WithImpl                       with;
+    final WithImpl                               with;
     private final Table<R>                       table;
     final SelectFieldList<SelectFieldOrAsterisk> returning;
     final List<Field<?>>                         returningResolvedAsterisks;
@@ -1249,8 +1249,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
                                 fields,
                                 originalConfiguration)
                              .operate(record -> {
-                                record.values[0] = id;
-                                record.originals[0] = id;
+                                record.set0(0, id, id);
 
                                 return record;
                             }));
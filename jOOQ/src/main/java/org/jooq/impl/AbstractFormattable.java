@@ -37,12 +37,14 @@
  */
 package org.jooq.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.io.Writer;
 
+import org.jooq.BinaryFormat;
 import org.jooq.CSVFormat;
 import org.jooq.ChartFormat;
 import org.jooq.Field;
@@ -214,6 +216,23 @@ abstract class AbstractFormattable implements Formattable, Serializable {
         formatCSV(writer, new CSVFormat().header(header).delimiter(delimiter).nullString(nullString));
     }
 
+    @Override
+    public final byte[] formatBinary() {
+        return formatBinary(BinaryFormat.DEFAULT);
+    }
+
+    @Override
+    public final byte[] formatBinary(BinaryFormat format) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        formatBinary(stream, format);
+        return stream.toByteArray();
+    }
+
+    @Override
+    public final void formatBinary(OutputStream stream) {
+        formatBinary(stream, BinaryFormat.DEFAULT);
+    }
+
     abstract JSONFormat defaultJSONFormat();
 
     @Override
@@ -50,6 +50,7 @@ import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
 import static org.jooq.impl.DSL.using;
+import static org.jooq.impl.DefaultRenderContext.renderAndRelease;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeExceptions;
@@ -284,7 +285,11 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                 // [#385] First time statement preparing
                 else {
                     listener.renderStart(ctx);
-                    rendered = getSQL0(ctx);
+
+                    // Compiled queries skip rendering
+                    if ((rendered = cachedRendered(c)) == null)
+                        rendered = getSQL0(ctx);
+
                     ctx.sql(rendered.sql);
                     listener.renderEnd(ctx);
                     rendered.sql = ctx.sql();
@@ -450,6 +455,15 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         return true;
     }
 
+    /**
+     * The {@link Rendered} SQL of this query, if it was rendered ahead of
+     * execution, e.g. by a {@link org.jooq.CompiledQuery}, or
+     * <code>null</code> if the query has to be rendered.
+     */
+    Rendered cachedRendered(Configuration c) {
+        return null;
+    }
+
     private final Rendered getSQL0(ExecuteContext ctx) {
         Rendered result;
         DefaultRenderContext render;
@@ -460,23 +474,23 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         if (ctx.type() == DDL) {
             ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
             render = new DefaultRenderContext(c);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
+            result = new Rendered(renderAndRelease(render.paramType(INLINED).visit(this)), null, render.skipUpdateCounts());
         }
         else if (executePreparedStatements(configuration().settings())) {
             try {
                 render = new DefaultRenderContext(c);
                 render.data(DATA_COUNT_BIND_VALUES, true);
-                result = new Rendered(render.visit(this).render(), render.bindValues(), render.skipUpdateCounts());
+                result = new Rendered(renderAndRelease(render.visit(this)), render.bindValues(), render.skipUpdateCounts());
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
                 render = new DefaultRenderContext(c);
-                result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
+                result = new Rendered(renderAndRelease(render.paramType(INLINED).visit(this)), null, render.skipUpdateCounts());
             }
         }
         else {
             render = new DefaultRenderContext(c);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
+            result = new Rendered(renderAndRelease(render.paramType(INLINED).visit(this)), null, render.skipUpdateCounts());
         }
 
 
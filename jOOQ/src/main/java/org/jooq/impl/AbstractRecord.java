@@ -49,6 +49,7 @@ import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.impl.Tools.resetChangedOnNotNull;
 import static org.jooq.impl.Tools.settings;
 
+import java.io.OutputStream;
 import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -61,6 +62,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jooq.Attachable;
+import org.jooq.BinaryFormat;
 import org.jooq.CSVFormat;
 import org.jooq.ChartFormat;
 import org.jooq.Converter;
@@ -119,8 +121,18 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
-    final BitSet                                changed;
+
+    /**
+     * The original values, or <code>null</code> as long as they are the same
+     * as the {@link #values}, e.g. for records that were fetched and not
+     * modified afterwards.
+     */
+    Object[]                                    originals;
+
+    /**
+     * The changed flags, or <code>null</code> as long as no flag was set.
+     */
+    BitSet                                      changed;
     boolean                                     fetched;
 
     /**
@@ -144,8 +156,65 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Internal access to originals and changed flags
+    // ------------------------------------------------------------------------
+
+    /**
+     * The original values, materialised before either the values or the
+     * originals are modified independently of each other.
+     */
+    final Object[] originals() {
+        if (originals == null)
+            originals = values.clone();
+
+        return originals;
+    }
+
+    /**
+     * The original value at an index.
+     */
+    final Object original0(int index) {
+        return originals == null ? values[index] : originals[index];
+    }
+
+    /**
+     * Set a value and its original value at an index.
+     */
+    final void set0(int index, Object value, Object original) {
+        if (originals != null || value != original)
+            originals()[index] = original;
+
+        values[index] = value;
+    }
+
+    /**
+     * The changed flags, materialised before a flag is set.
+     */
+    final BitSet changedFlags() {
+        if (changed == null)
+            changed = new BitSet(values.length);
+
+        return changed;
+    }
+
+    /**
+     * The changed flag at an index.
+     */
+    final boolean changed0(int index) {
+        return changed != null && changed.get(index);
+    }
+
+    /**
+     * Set the changed flag at an index.
+     */
+    final void changed0(int index, boolean c) {
+        if (c)
+            changedFlags().set(index);
+        else if (changed != null)
+            changed.clear(index);
     }
 
     // ------------------------------------------------------------------------
@@ -431,22 +500,22 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            changed.set(index);
+            changed0(index, true);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (changed.get(index)) {
-            changed.set(index);
+        else if (changed0(index)) {
+            changed0(index, true);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            changed.set(index);
+            changed0(index, true);
         }
 
         // [#2698] If the primary key has not yet been set
-        else if (originals[index] == null) {
-            changed.set(index);
+        else if (original0(index) == null) {
+            changed0(index, true);
         }
 
         // [#979] If the primary key is being changed, all other fields' flags
@@ -455,13 +524,15 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         else {
 
             // [#945] Be sure that changed is never reset to false
-            changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
+            changed0(index, changed0(index) || !StringUtils.equals(values[index], value));
 
-            if (changed.get(index)) {
+            if (changed0(index)) {
                 changed(true);
             }
         }
 
+        // The originals need to be materialised before the first modification
+        originals();
         values[index] = value;
     }
 
@@ -489,9 +560,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int targetIndex = indexOrFail(this.fields, field);
             int sourceIndex = indexOrFail(record.fields, field);
 
-            values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
-            changed.set(targetIndex, record.changed(sourceIndex));
+            set0(targetIndex, record.get(sourceIndex), record.original(sourceIndex));
+            changed0(targetIndex, record.changed(sourceIndex));
         }
     }
 
@@ -500,7 +570,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         if (field(fieldIndex).getType() == String.class) {
             values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+
+            if (originals != null)
+                originals[fieldIndex] = intern((String) originals[fieldIndex]);
         }
     }
 
@@ -529,8 +601,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public Record original() {
         return Tools.newRecord(fetched, (Class<AbstractRecord>) getClass(), fields, configuration())
                     .operate(record -> {
-                        for (int i = 0; i < originals.length; i++)
-                            record.values[i] = record.originals[i] = originals[i];
+                        for (int i = 0; i < values.length; i++)
+                            record.values[i] = original0(i);
 
                         return record;
                     });
@@ -543,7 +615,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        return original0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -558,7 +630,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changed != null && !changed.isEmpty();
     }
 
     @Override
@@ -568,7 +640,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        return changed0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -583,12 +655,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
+        if (c)
+            changedFlags().set(0, values.length);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+        else {
+            changed = null;
+            originals = null;
         }
     }
 
@@ -601,11 +675,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        changed0(fieldIndex, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c)
+        if (!c && originals != null)
             originals[fieldIndex] = values[fieldIndex];
     }
 
@@ -621,9 +695,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        changed = null;
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != null) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = null;
+        }
     }
 
     @Override
@@ -635,8 +712,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
-        values[fieldIndex] = originals[fieldIndex];
+        changed0(fieldIndex, false);
+
+        if (originals != null)
+            values[fieldIndex] = originals[fieldIndex];
     }
 
     @Override
@@ -866,9 +945,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
-                            t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+                            Object value = values[sourceIndex];
+                            Object original = original0(sourceIndex);
+                            Object converted = targetType.convert(value);
+
+                            t.set0(targetIndex, converted, original == value ? converted : targetType.convert(original));
+                            t.changed0(targetIndex, changed0(sourceIndex));
                         }
                     }
                 }
@@ -1036,6 +1118,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         asResult().formatCSV(writer, format);
     }
 
+    @Override
+    public final void formatBinary(OutputStream stream, BinaryFormat format) {
+        asResult().formatBinary(stream, format);
+    }
+
     @Override
     final JSONFormat defaultJSONFormat() {
         return JSONFormat.DEFAULT_FOR_RECORDS;
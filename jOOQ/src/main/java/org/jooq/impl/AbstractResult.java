@@ -50,6 +50,7 @@ import static org.jooq.tools.StringUtils.abbreviate;
 import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.Writer;
 import java.sql.Date;
@@ -69,6 +70,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
+import org.jooq.BinaryFormat;
 import org.jooq.CSVFormat;
 import org.jooq.ChartFormat;
 import org.jooq.ChartFormat.Display;
@@ -1072,6 +1074,16 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
+    @Override
+    public final void formatBinary(OutputStream stream, BinaryFormat format) {
+        try {
+            new BinaryWriter(fields.fields.fields, format).write(iterator(), stream);
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while writing binary data", e);
+        }
+    }
+
     @Override
     public final void formatHTML(Writer writer) {
         try {
@@ -253,12 +253,15 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R> im
             }
 
             Field<?>[] fields = getFields(ctx.resultSet().getMetaData());
-            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
+            CursorImpl<R> c = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
 
             if (!lazy) {
-                result = cursor.fetch();
+                result = c.fetch();
                 cursor = null;
             }
+            else {
+                cursor = c.prefetch(SettingsTools.fetchLazyPrefetchSize(ctx.settings()));
+            }
         }
 
         // Fetch several result sets
@@ -298,7 +301,11 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R> im
             lazy = false;
         }
 
-        return cursor;
+        // Prefetching cursors must not be kept reachable by this query, in
+        // case they are abandoned without being closed
+        Cursor<R> result = cursor;
+        cursor = null;
+        return result;
     }
 
     /**
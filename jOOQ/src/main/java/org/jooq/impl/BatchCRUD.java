@@ -38,18 +38,31 @@
 package org.jooq.impl;
 
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
+import static org.jooq.impl.Tools.anyMatch;
+import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
+import static org.jooq.impl.Tools.DataKey.DATA_BATCH_QUERY_COLLECTOR;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
 import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -89,37 +102,23 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final int[] executePrepared() {
-        Map<String, List<Query>> queries = new LinkedHashMap<>();
-        QueryCollector collector = new QueryCollector();
+        QueryCollector collector = new QueryCollector(true);
 
         // Add the QueryCollector to intercept query execution after rendering
         Configuration local = configuration.deriveAppending(collector);
 
+        // Records hand their queries to the QueryCollector without rendering
+        // or executing them
+        local.data(DATA_BATCH_QUERY_COLLECTOR, collector);
+
         // [#1537] Communicate with UpdatableRecordImpl
         local.data(DATA_OMIT_RETURNING_CLAUSE, true);
 
         // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
         local.settings().setExecuteLogging(false);
 
-        for (int i = 0; i < records.length; i++) {
-            Configuration previous = records[i].configuration();
-
-            try {
-                records[i].attach(local);
-                executeAction(i);
-            }
-            catch (QueryCollectorSignal e) {
-                Query query = e.getQuery();
-                String sql = e.getSQL();
-
-                // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
-                    queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
-            }
-            finally {
-                records[i].attach(previous);
-            }
-        }
+        collect(collector, local);
+        Map<Object, List<Query>> queries = collector.groups;
 
         if (log.isDebugEnabled())
             log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
@@ -129,12 +128,17 @@ final class BatchCRUD extends AbstractBatch {
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
         queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
+            int[] array = executeRows(v);
+
+            if (array == null) {
+                BatchBindStep batch = dsl.batch(v.get(0));
 
-            for (Query query : v)
-                batch.bind(query.getBindValues().toArray());
+                for (Query query : v)
+                    batch.bind(collector.bindValues(query));
+
+                array = batch.execute();
+            }
 
-            int[] array = batch.execute();
             for (int i : array)
                 result.add(i);
         });
@@ -147,11 +151,54 @@ final class BatchCRUD extends AbstractBatch {
         return array;
     }
 
+    /**
+     * Execute identical single row inserts as multi row inserts, if so
+     * configured, or return <code>null</code> otherwise.
+     */
+    private final int[] executeRows(List<Query> queries) {
+        if (action == Action.MERGE || !BatchInsertRows.enabled(configuration))
+            return null;
+
+        List<Field<?>> columns = null;
+        List<Field<?>[]> rows = new ArrayList<>(queries.size());
+
+        for (Query query : queries) {
+            if (!(query instanceof InsertQueryImpl) || !((InsertQueryImpl<?>) query).isSingleRowValues())
+                return null;
+
+            FieldMapsForInsert maps = ((InsertQueryImpl<?>) query).getInsertMaps();
+            Map<Field<?>, Field<?>> values = maps.lastMap();
+
+            if (columns == null)
+                columns = new ArrayList<>(maps.fields());
+            else if (columns.size() != values.size())
+                return null;
+
+            Field<?>[] row = map(columns, c -> values.get(c), Field[]::new);
+
+            if (anyMatch(row, f -> f == null))
+                return null;
+
+            rows.add(row);
+        }
+
+        return new BatchInsertRows(configuration, ((InsertQueryImpl<?>) queries.get(0)).table(), columns, rows).execute();
+    }
+
     private final int[] executeStatic() {
-        List<Query> queries = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
+        QueryCollector collector = new QueryCollector(false);
         Configuration local = configuration.derive(collector);
+        local.data(DATA_BATCH_QUERY_COLLECTOR, collector);
+
+        collect(collector, local);
 
+        // Resulting statements can be batch executed in their requested order
+        int[] result = dsl.batch(collector.queries).execute();
+        updateChangedFlag();
+        return result;
+    }
+
+    private final void collect(QueryCollector collector, Configuration local) {
         for (int i = 0; i < records.length; i++) {
             Configuration previous = records[i].configuration();
 
@@ -159,21 +206,16 @@ final class BatchCRUD extends AbstractBatch {
                 records[i].attach(local);
                 executeAction(i);
             }
-            catch (QueryCollectorSignal e) {
-                Query query = e.getQuery();
 
-                if (query.isExecutable())
-                    queries.add(query);
+            // Queries that are executed rather than collected by the record,
+            // e.g. the SELECT .. FOR UPDATE of optimistic locking
+            catch (QueryCollectorSignal e) {
+                collector.add(e.getSQL(), e.getQuery());
             }
             finally {
                 records[i].attach(previous);
             }
         }
-
-        // Resulting statements can be batch executed in their requested order
-        int[] result = dsl.batch(queries).execute();
-        updateChangedFlag();
-        return result;
     }
 
     private void executeAction(int i) {
@@ -244,16 +286,269 @@ final class BatchCRUD extends AbstractBatch {
     /**
      * Collect queries
      * <p>
-     * The query collector intercepts query execution after rendering. This
-     * allows for rendering SQL according to the specific logic contained in
-     * TableRecords without actually executing that SQL
+     * Records attached to a configuration containing this collector hand
+     * their store queries to it instead of executing them. When grouping
+     * queries for prepared batches, each query's SQL is identified by its
+     * shape, rather than by rendering it.
+     * <p>
+     * Any other query is intercepted after rendering. This allows for
+     * rendering SQL according to the specific logic contained in TableRecords
+     * without actually executing that SQL
      */
-    private static class QueryCollector extends DefaultExecuteListener {
+    static final class QueryCollector extends DefaultExecuteListener {
+        final boolean                        group;
+        final List<Query>                    queries = new ArrayList<>();
+        final Map<Object, List<Query>>       groups  = new LinkedHashMap<>();
+        private final Map<Table<?>, int[]>   keys    = new HashMap<>();
+        private final Map<Table<?>, Boolean> shapes  = new HashMap<>();
+
+        /**
+         * The record and shape of each collected store query, and the bind
+         * plans of each shape, or {@link BindPlan#NONE} if a shape's bind
+         * values can't be taken from its records.
+         */
+        private final Map<Query, TableRecordImpl<?>> records     = new IdentityHashMap<>();
+        private final Map<Query, QueryShape>         queryShapes = new IdentityHashMap<>();
+        private final Map<QueryShape, BindPlan>      plans       = new HashMap<>();
+
+        QueryCollector(boolean group) {
+            this.group = group;
+        }
 
         @Override
         public void renderEnd(ExecuteContext ctx) {
             throw new QueryCollectorSignal(ctx.sql(), ctx.query());
         }
+
+        final void add(TableRecordImpl<?> record, Query query) {
+            if (!group) {
+                add(null, query);
+                return;
+            }
+
+            QueryShape shape = new QueryShape(query, record, keys.computeIfAbsent(record.getTable(), QueryCollector::keys));
+            records.put(query, record);
+            queryShapes.put(query, shape);
+
+            // Bind variables whose SQL depends on their values (e.g. casts
+            // to a BigDecimal's precision and scale) prevent grouping by shape
+            if (shapes.computeIfAbsent(record.getTable(), t -> shapes(t, record.configuration().dialect())))
+                add(shape, query);
+            else
+                add(query.getSQL(), query);
+        }
+
+        /**
+         * The bind values of a collected query, taken from its record if
+         * possible, or from the query otherwise.
+         */
+        final Object[] bindValues(Query query) {
+            QueryShape shape = queryShapes.get(query);
+
+            if (shape != null) {
+                TableRecordImpl<?> record = records.get(query);
+                BindPlan plan = plans.get(shape);
+
+                if (plan == null) {
+                    Object[] result = query.getBindValues().toArray();
+
+                    // Inconclusive plans are verified again with the next
+                    // record of the same shape
+                    if ((plan = BindPlan.of(shape, record, result)) != null)
+                        plans.put(shape, plan);
+
+                    return result;
+                }
+                else if (plan != BindPlan.NONE)
+                    return plan.values(record);
+            }
+
+            return query.getBindValues().toArray();
+        }
+
+        final void add(Object key, Query query) {
+            if (query.isExecutable()) {
+                if (group)
+
+                    // Aggregate executable queries by identical SQL
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(query);
+                else
+                    queries.add(query);
+            }
+        }
+
+        /**
+         * Whether the SQL of store queries of a table is determined by their
+         * {@link QueryShape}.
+         */
+        private static final boolean shapes(Table<?> table, SQLDialect dialect) {
+            for (Field<?> field : table.fields())
+                if (!DefaultBinding.valueIndependentSQL(field.getBinding(), dialect))
+                    return false;
+
+            return true;
+        }
+
+        /**
+         * The indexes of fields that may be compared with <code>NULL</code>
+         * values in <code>WHERE</code> clauses of store queries.
+         */
+        private static final int[] keys(Table<?> table) {
+            Set<Field<?>> result = new LinkedHashSet<>();
+
+            if (table.getPrimaryKey() != null)
+                result.addAll(table.getPrimaryKey().getFields());
+            if (table.getRecordVersion() != null)
+                result.add(table.getRecordVersion());
+            if (table.getRecordTimestamp() != null)
+                result.add(table.getRecordTimestamp());
+
+            return result.stream().mapToInt(f -> table.indexOf(f)).filter(i -> i >= 0).toArray();
+        }
+    }
+
+    /**
+     * The shape of a store query, which determines its SQL.
+     * <p>
+     * Queries produced by records of the same table share their SQL if they
+     * are of the same type, if the same fields are changed, and if the same
+     * key values and original key values are <code>NULL</code>, which
+     * produces <code>IS NULL</code> predicates rather than bind variables.
+     * This only holds if the SQL of all bind variables is independent of
+     * their values.
+     */
+    private static final class QueryShape {
+        private final Class<?> type;
+        private final Table<?> table;
+        private final BitSet   changed;
+        private final BitSet   nulls;
+
+        QueryShape(Query query, TableRecordImpl<?> record, int[] keys) {
+            this.type = query.getClass();
+            this.table = record.getTable();
+            this.changed = record.changed == null ? new BitSet() : (BitSet) record.changed.clone();
+            this.nulls = new BitSet();
+
+            for (int i = 0; i < keys.length; i++) {
+                if (record.values[keys[i]] == null)
+                    nulls.set(2 * i);
+                if (record.original0(keys[i]) == null)
+                    nulls.set(2 * i + 1);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, table, changed, nulls);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (!(obj instanceof QueryShape))
+                return false;
+
+            QueryShape other = (QueryShape) obj;
+            return type == other.type
+                && table.equals(other.table)
+                && changed.equals(other.changed)
+                && nulls.equals(other.nulls);
+        }
+    }
+
+    /**
+     * The bind values of all store queries of a {@link QueryShape}, in terms
+     * of the values and original values of their records.
+     * <p>
+     * Store queries bind the changed values of their record in field order,
+     * followed by the non-<code>NULL</code> primary key values in key order
+     * (original values if primary keys are updatable), which are compared in
+     * the <code>WHERE</code> clause of <code>UPDATE</code> and
+     * <code>DELETE</code> statements. Record version and timestamp values are
+     * computed while building the query, so tables with such columns don't
+     * have bind plans.
+     * <p>
+     * A plan is verified once against the actual bind values of a query of
+     * its shape. The verification is conclusive only if all compared values
+     * are distinct objects, such that a plan can't be confirmed by values
+     * that happen to be equal.
+     */
+    private static final class BindPlan {
+
+        static final BindPlan NONE = new BindPlan(null);
+
+        /**
+         * Indexes into the record's values, or <code>-index - 1</code> for
+         * indexes into the record's original values.
+         */
+        private final int[]   indexes;
+
+        private BindPlan(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        /**
+         * Derive the plan of a shape and verify it against a query's bind
+         * values, returning {@link #NONE} if the shape has no plan, or
+         * <code>null</code> if the verification was inconclusive.
+         */
+        static final BindPlan of(QueryShape shape, TableRecordImpl<?> record, Object[] actual) {
+            Table<?> table = record.getTable();
+
+            if (table.getRecordVersion() != null || table.getRecordTimestamp() != null)
+                return NONE;
+
+            List<Integer> list = new ArrayList<>();
+
+            if (shape.type == InsertQueryImpl.class || shape.type == UpdateQueryImpl.class)
+                for (int i = shape.changed.nextSetBit(0); i >= 0 && i < record.values.length; i = shape.changed.nextSetBit(i + 1))
+                    list.add(i);
+
+            if (shape.type == UpdateQueryImpl.class || shape.type == DeleteQueryImpl.class) {
+                if (table.getPrimaryKey() == null)
+                    return NONE;
+
+                boolean original = updatablePrimaryKeys(Tools.settings(record));
+
+                for (Field<?> key : table.getPrimaryKey().getFields()) {
+                    int i = table.indexOf(key);
+
+                    if (i < 0)
+                        return NONE;
+
+                    if ((original ? record.original0(i) : record.values[i]) != null)
+                        list.add(original ? -i - 1 : i);
+                }
+            }
+            else if (shape.type != InsertQueryImpl.class)
+                return NONE;
+
+            BindPlan result = new BindPlan(list.stream().mapToInt(i -> i).toArray());
+            Object[] expected = result.values(record);
+
+            if (expected.length != actual.length)
+                return NONE;
+
+            Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < expected.length; i++)
+                if (expected[i] != actual[i])
+                    return NONE;
+                else if (expected[i] == null || !distinct.add(expected[i]))
+                    return null;
+
+            return result;
+        }
+
+        final Object[] values(TableRecordImpl<?> record) {
+            Object[] result = new Object[indexes.length];
+
+            for (int i = 0; i < indexes.length; i++)
+                result[i] = indexes[i] >= 0 ? record.values[indexes[i]] : record.original0(-indexes[i] - 1);
+
+            return result;
+        }
     }
 
     /**
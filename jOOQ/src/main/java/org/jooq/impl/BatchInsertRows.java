@@ -0,0 +1,204 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.conf.BatchInsertMode.JDBC_BATCH;
+import static org.jooq.conf.BatchInsertMode.UNNEST_ARRAYS;
+import static org.jooq.impl.DSL.asterisk;
+import static org.jooq.impl.DSL.list;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.DefaultRenderContext.maxBindValues;
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertQuery;
+import org.jooq.Param;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.BatchInsertMode;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+
+/**
+ * Rows of a batch insert, which are executed in chunked multi row statements
+ * rather than in a JDBC batch, according to
+ * {@link Settings#getBatchInsertMode()}.
+ *
+ * @author Lukas Eder
+ */
+final class BatchInsertRows {
+
+    static final Set<SQLDialect> SUPPORT_UNNEST_ARRAYS = SQLDialect.supportedBy(POSTGRES);
+    static final Set<Class<?>>   UNNEST_TYPES          = new HashSet<>(Arrays.asList(
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigDecimal.class,
+        Boolean.class,
+        String.class,
+        UUID.class,
+        LocalDate.class,
+        LocalDateTime.class
+    ));
+
+    private final Configuration    configuration;
+    private final Table<Record>    table;
+    private final List<Field<?>>   columns;
+    private final List<Field<?>[]> rows;
+
+    @SuppressWarnings("unchecked")
+    BatchInsertRows(Configuration configuration, Table<?> table, List<Field<?>> columns, List<Field<?>[]> rows) {
+        this.configuration = configuration;
+        this.table = (Table<Record>) table;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Whether batch inserts should be executed as multi row statements.
+     */
+    static final boolean enabled(Configuration configuration) {
+        return defaultIfNull(configuration.settings().getBatchInsertMode(), JDBC_BATCH) != JDBC_BATCH;
+    }
+
+    /**
+     * Execute the rows in chunks, returning one update count per row.
+     * <p>
+     * The update counts are <code>1</code> if a chunk's statement reports as
+     * many rows as were in the chunk, or {@link Statement#SUCCESS_NO_INFO}
+     * otherwise.
+     */
+    final int[] execute() {
+        DSLContext ctx = configuration.dsl();
+        BatchInsertMode mode = defaultIfNull(configuration.settings().getBatchInsertMode(), JDBC_BATCH);
+        boolean unnest = mode == UNNEST_ARRAYS && SUPPORT_UNNEST_ARRAYS.contains(ctx.dialect()) && unnestable();
+
+        // Array binds need one bind value per column, irrespective of the
+        // number of rows
+        int chunk = SettingsTools.getBatchSize(configuration.settings());
+        if (!unnest)
+            chunk = Math.min(chunk, maxBindValues(ctx.dialect()) / columns.size());
+        chunk = Math.max(1, chunk);
+
+        int[] result = new int[rows.size()];
+        for (int from = 0; from < rows.size(); from += chunk) {
+            int to = Math.min(rows.size(), from + chunk);
+            List<Field<?>[]> subList = rows.subList(from, to);
+            int count = (unnest ? unnest(ctx, subList) : values(ctx, subList)).execute();
+
+            Arrays.fill(result, from, to, count == to - from ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+
+        return result;
+    }
+
+    private final InsertQuery<Record> values(DSLContext ctx, List<Field<?>[]> chunk) {
+        InsertQuery<Record> result = ctx.insertQuery(table);
+
+        for (Field<?>[] row : chunk) {
+            result.newRecord();
+
+            for (int i = 0; i < row.length; i++)
+                addValue(result, columns.get(i), row[i]);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <T> void addValue(InsertQuery<Record> query, Field<T> column, Field<?> value) {
+        query.addValue(column, (Field<T>) value);
+    }
+
+    private final InsertQuery<Record> unnest(DSLContext ctx, List<Field<?>[]> chunk) {
+        InsertQuery<Record> result = ctx.insertQuery(table);
+        Field<?>[] arrays = new Field[columns.size()];
+
+        for (int i = 0; i < arrays.length; i++) {
+            Field<?> column = columns.get(i);
+            Object[] array = (Object[]) Array.newInstance(column.getType(), chunk.size());
+
+            for (int j = 0; j < array.length; j++)
+                array[j] = ((Param<?>) chunk.get(j)[i]).getValue();
+
+            arrays[i] = val(array, column.getDataType().getArrayDataType());
+        }
+
+        result.setSelect(columns, select(asterisk()).from(table("unnest({0})", list(arrays))));
+        return result;
+    }
+
+    /**
+     * Whether all columns can be bound as arrays.
+     */
+    private final boolean unnestable() {
+        for (Field<?> column : columns) {
+            if (!(column.getBinding().converter() instanceof IdentityConverter))
+                return false;
+
+            if (!UNNEST_TYPES.contains(column.getType()))
+                return false;
+        }
+
+        for (Field<?>[] row : rows)
+            for (Field<?> value : row)
+                if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                    return false;
+
+        return true;
+    }
+}
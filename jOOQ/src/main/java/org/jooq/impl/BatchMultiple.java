@@ -37,15 +37,27 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Tools.acquireDistinct;
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Query;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.R2DBC.BatchMultipleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
 
@@ -85,9 +97,73 @@ final class BatchMultiple extends AbstractBatch {
 
     @Override
     public final int[] execute() {
+        int parallelism = Math.min(queries.length, defaultIfNull(configuration.settings().getBatchParallelism(), 1));
+
+        if (parallelism > 1)
+            return executeParallel(configuration, queries, parallelism);
+        else
+            return execute(configuration, queries);
+    }
+
+    /**
+     * Execute independent queries in chunks, spread over several connections.
+     */
+    static int[] executeParallel(Configuration configuration, Query[] queries, int parallelism) {
+        ConnectionProvider provider = configuration.connectionProvider();
+        List<Connection> connections = acquireDistinct(provider, parallelism);
+
+        try {
+            if (connections.size() > 1)
+                return executeParallel(configuration, queries, connections);
+        }
+        finally {
+            for (Connection c : connections)
+                provider.release(c);
+        }
+
         return execute(configuration, queries);
     }
 
+    private static int[] executeParallel(Configuration configuration, Query[] queries, List<Connection> connections) {
+        int[] result = new int[queries.length];
+        int chunk = Math.max(1, queries.length / (connections.size() * 4));
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        Executor executor = configuration.executorProvider().provide();
+        CompletableFuture<?>[] workers = new CompletableFuture[connections.size()];
+
+        // Workers pull chunks of queries until none are left, such that slow
+        // queries don't hold up the other connections
+        for (int i = 0; i < workers.length; i++) {
+            Configuration c = configuration.derive(DefaultConnectionProvider.borrowed(connections.get(i)));
+
+            workers[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    for (int from; !failed.get() && (from = next.getAndAdd(chunk)) < queries.length;) {
+                        int to = Math.min(queries.length, from + chunk);
+                        int[] r = execute(c, Arrays.copyOfRange(queries, from, to));
+                        System.arraycopy(r, 0, result, from, Math.min(r.length, to - from));
+                    }
+                }
+                catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+            return result;
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else
+                throw new DataAccessException("Error while executing batch in parallel", e.getCause());
+        }
+    }
+
     static int[] execute(final Configuration configuration, final Query[] queries) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, queries);
         ExecuteListener listener = ExecuteListeners.get(ctx);
@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
@@ -56,6 +57,7 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.conf.SettingsTools;
@@ -172,10 +174,53 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         // should be used...
         if (executeStaticStatements(configuration.settings()))
             return executeStatic();
+
+        int[] result = executeRows();
+        if (result != null)
+            return result;
         else
             return executePrepared();
     }
 
+    /**
+     * Execute the bind value sets of a single row insert as multi row inserts,
+     * if so configured, or return <code>null</code> otherwise.
+     */
+    private final int[] executeRows() {
+        if (!BatchInsertRows.enabled(configuration))
+            return null;
+
+        Query delegate = query instanceof AbstractDelegatingQuery
+            ? ((AbstractDelegatingQuery<?, ?>) query).getDelegate()
+            : query;
+
+        if (!(delegate instanceof InsertQueryImpl) || !((InsertQueryImpl<?>) delegate).isSingleRowValues())
+            return null;
+
+        FieldMapsForInsert maps = ((InsertQueryImpl<?>) delegate).getInsertMaps();
+        Map<Field<?>, Field<?>> values = maps.lastMap();
+        List<Field<?>> columns = new ArrayList<>(maps.fields());
+        Param<?>[] params = extractParams();
+
+        // Each inserted value must be a bind value, in the order of the columns
+        if (params.length != columns.size())
+            return null;
+
+        for (int i = 0; i < params.length; i++)
+            if (values.get(columns.get(i)) != params[i])
+                return null;
+
+        List<Field<?>[]> rows = new ArrayList<>(allBindValues.size());
+        for (Object[] bindValues : allBindValues) {
+            if (bindValues.length != params.length)
+                return null;
+
+            rows.add(fields(bindValues, params).toArray(EMPTY_FIELD));
+        }
+
+        return new BatchInsertRows(configuration, ((InsertQueryImpl<?>) delegate).table(), columns, rows).execute();
+    }
+
     final void checkBindValues() {
 
         // [#4071] Help users debug cases where bind value counts don't match the expected number
@@ -212,14 +257,21 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             if (t != 0)
                 ctx.statement().setQueryTimeout(t);
 
+            DefaultBindContext bind = null;
+
             for (Object[] bindValues : allBindValues) {
                 listener.bindStart(ctx);
 
+                // Reuse the bind context for all bind value sets, unless an
+                // ExecuteListener has replaced the statement
+                if (bind == null || bind.stmt != ctx.statement())
+                    bind = new DefaultBindContext(configuration, ctx.statement());
+
                 // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
                 //                 list to preserve type information
                 // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
                 //                 plain SQL. In that case, infer the bind value type directly from the bind value
-                visitAll(new DefaultBindContext(configuration, ctx.statement()),
+                visitAll(bind.resetIndex(),
                     (params.length > 0)
                         ? fields(bindValues, params)
                         : fields(bindValues));
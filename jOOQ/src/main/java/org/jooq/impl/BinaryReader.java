@@ -0,0 +1,299 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.impl.BinaryWriter.BIGINT;
+import static org.jooq.impl.BinaryWriter.BINARY;
+import static org.jooq.impl.BinaryWriter.BOOLEAN;
+import static org.jooq.impl.BinaryWriter.DATE;
+import static org.jooq.impl.BinaryWriter.DECIMAL;
+import static org.jooq.impl.BinaryWriter.DOUBLE;
+import static org.jooq.impl.BinaryWriter.INTEGER;
+import static org.jooq.impl.BinaryWriter.MAGIC;
+import static org.jooq.impl.BinaryWriter.REAL;
+import static org.jooq.impl.BinaryWriter.SMALLINT;
+import static org.jooq.impl.BinaryWriter.TIME;
+import static org.jooq.impl.BinaryWriter.TIMESTAMP;
+import static org.jooq.impl.BinaryWriter.TINYINT;
+import static org.jooq.impl.BinaryWriter.VERSION;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jooq.BinaryFormat;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+
+/**
+ * A pull-based reader for the {@link BinaryFormat}, producing one array per
+ * record.
+ * <p>
+ * Only the current batch is held in memory.
+ *
+ * @author Lukas Eder
+ */
+final class BinaryReader implements Iterator<Object[]>, AutoCloseable {
+
+    private final DSLContext      ctx;
+    private final DataInputStream in;
+    private Field<?>[]            fields;
+    private byte[]                kinds;
+    private Object[][]            batch;
+    private int                   rows;
+    private int                   row;
+    private boolean               done;
+
+    BinaryReader(DSLContext ctx, InputStream stream) {
+        this.ctx = ctx;
+        this.in = new DataInputStream(new BufferedInputStream(stream));
+    }
+
+    /**
+     * The header fields.
+     */
+    final Field<?>[] fields() {
+        if (fields == null) {
+            try {
+                byte[] magic = new byte[MAGIC.length];
+                in.readFully(magic);
+
+                if (!Arrays.equals(magic, MAGIC))
+                    throw new org.jooq.exception.IOException("Not a binary jOOQ export", new IOException("Bad magic number"));
+
+                int version = in.readUnsignedByte();
+                if (version != VERSION)
+                    throw new org.jooq.exception.IOException("Unsupported binary jOOQ export version: " + version, new IOException("Bad version"));
+
+                int columns = in.readInt();
+                fields = new Field[columns];
+                kinds = new byte[columns];
+
+                for (int i = 0; i < columns; i++) {
+                    String n = in.readUTF();
+                    String type = in.readUTF();
+
+                    fields[i] = field(name(n), getDataType(ctx.dialect(), type));
+                    kinds[i] = in.readByte();
+                }
+            }
+            catch (IOException e) {
+                throw new org.jooq.exception.IOException("Error while reading binary data", e);
+            }
+        }
+
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (row < rows)
+            return true;
+
+        if (done)
+            return false;
+
+        fields();
+
+        try {
+            rows = in.readInt();
+            row = 0;
+
+            if (rows <= 0) {
+                done = true;
+                return false;
+            }
+
+            if (batch == null || batch.length < rows)
+                batch = new Object[rows][];
+
+            for (int r = 0; r < rows; r++)
+                batch[r] = new Object[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                readVector(i);
+
+            return true;
+        }
+        catch (IOException e) {
+            throw new org.jooq.exception.IOException("Error while reading binary data", e);
+        }
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = batch[row];
+        batch[row++] = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        in.close();
+    }
+
+    private final void readVector(int column) throws IOException {
+        byte[] validity = new byte[(rows + 7) / 8];
+        in.readFully(validity);
+
+        switch (kinds[column]) {
+            case BOOLEAN:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readByte() != 0);
+                break;
+
+            case TINYINT:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readByte());
+                break;
+
+            case SMALLINT:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readShort());
+                break;
+
+            case INTEGER:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readInt());
+                break;
+
+            case BIGINT:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readLong());
+                break;
+
+            case REAL:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readFloat());
+                break;
+
+            case DOUBLE:
+                for (int r = 0; r < rows; r++)
+                    set(validity, r, column, in.readDouble());
+                break;
+
+            case DATE:
+                for (int r = 0; r < rows; r++) {
+                    int days = in.readInt();
+
+                    if (valid(validity, r))
+                        batch[r][column] = LocalDate.ofEpochDay(days);
+                }
+                break;
+
+            case TIME:
+                for (int r = 0; r < rows; r++) {
+                    long nanos = in.readLong();
+
+                    if (valid(validity, r))
+                        batch[r][column] = LocalTime.ofNanoOfDay(nanos);
+                }
+                break;
+
+            case TIMESTAMP:
+                for (int r = 0; r < rows; r++) {
+                    long seconds = in.readLong();
+                    int nanos = in.readInt();
+
+                    if (valid(validity, r))
+                        batch[r][column] = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+                }
+                break;
+
+            default: {
+                int[] offsets = new int[rows + 1];
+                for (int r = 0; r <= rows; r++)
+                    offsets[r] = in.readInt();
+
+                byte[] data = new byte[offsets[rows] - offsets[0]];
+                in.readFully(data);
+
+                for (int r = 0; r < rows; r++)
+                    if (valid(validity, r))
+                        batch[r][column] = value(kinds[column], data, offsets[r] - offsets[0], offsets[r + 1] - offsets[r]);
+
+                break;
+            }
+        }
+    }
+
+    private static final Object value(byte kind, byte[] data, int offset, int length) {
+        switch (kind) {
+            case DECIMAL: {
+                int scale = ((data[offset] & 0xFF) << 24)
+                          | ((data[offset + 1] & 0xFF) << 16)
+                          | ((data[offset + 2] & 0xFF) << 8)
+                          |  (data[offset + 3] & 0xFF);
+
+                return new BigDecimal(new BigInteger(Arrays.copyOfRange(data, offset + 4, offset + length)), scale);
+            }
+
+            case BINARY:
+                return Arrays.copyOfRange(data, offset, offset + length);
+
+            default:
+                return new String(data, offset, length, UTF_8);
+        }
+    }
+
+    private final void set(byte[] validity, int r, int column, Object value) {
+        if (valid(validity, r))
+            batch[r][column] = value;
+    }
+
+    private static final boolean valid(byte[] validity, int r) {
+        return (validity[r >> 3] & (1 << (r & 7))) != 0;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+
+import org.jooq.BinaryFormat;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.tools.Convert;
+import org.jooq.tools.reflect.Reflect;
+
+/**
+ * A writer for the {@link BinaryFormat}.
+ * <p>
+ * Records are buffered per batch and then written column by column.
+ *
+ * @author Lukas Eder
+ */
+final class BinaryWriter {
+
+    static final byte[]   MAGIC     = { 'J', 'O', 'O', 'Q' };
+    static final int      VERSION   = 1;
+
+    static final byte     BOOLEAN   = 1;
+    static final byte     TINYINT   = 2;
+    static final byte     SMALLINT  = 3;
+    static final byte     INTEGER   = 4;
+    static final byte     BIGINT    = 5;
+    static final byte     REAL      = 6;
+    static final byte     DOUBLE    = 7;
+    static final byte     DECIMAL   = 8;
+    static final byte     BINARY    = 9;
+    static final byte     DATE      = 10;
+    static final byte     TIME      = 11;
+    static final byte     TIMESTAMP = 12;
+    static final byte     VARCHAR   = 13;
+
+    private final Field<?>[]     fields;
+    private final byte[]         kinds;
+    private final BinaryFormat   format;
+
+    BinaryWriter(Field<?>[] fields, BinaryFormat format) {
+        this.fields = fields;
+        this.kinds = new byte[fields.length];
+        this.format = format;
+
+        for (int i = 0; i < fields.length; i++)
+            kinds[i] = kind(fields[i].getType());
+    }
+
+    static final byte kind(Class<?> type) {
+        Class<?> t = Reflect.wrapper(type);
+
+        if (t == Boolean.class)
+            return BOOLEAN;
+        else if (t == Byte.class)
+            return TINYINT;
+        else if (t == Short.class)
+            return SMALLINT;
+        else if (t == Integer.class)
+            return INTEGER;
+        else if (t == Long.class)
+            return BIGINT;
+        else if (t == Float.class)
+            return REAL;
+        else if (t == Double.class)
+            return DOUBLE;
+        else if (t == BigDecimal.class || t == BigInteger.class)
+            return DECIMAL;
+        else if (t == byte[].class)
+            return BINARY;
+        else if (t == LocalDate.class || t == java.sql.Date.class)
+            return DATE;
+        else if (t == LocalTime.class || t == java.sql.Time.class)
+            return TIME;
+        else if (t == LocalDateTime.class || t == java.sql.Timestamp.class)
+            return TIMESTAMP;
+        else
+            return VARCHAR;
+    }
+
+    final void write(Iterator<? extends Record> records, OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        int batchSize = Math.max(1, format.batchSize());
+        Object[][] batch = new Object[fields.length][batchSize];
+
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(fields.length);
+
+        for (int i = 0; i < fields.length; i++) {
+            out.writeUTF(fields[i].getName());
+            out.writeUTF(fields[i].getDataType().getTypeName());
+            out.writeByte(kinds[i]);
+        }
+
+        for (;;) {
+            int rows = 0;
+
+            while (rows < batchSize && records.hasNext()) {
+                Record record = records.next();
+
+                for (int i = 0; i < fields.length; i++)
+                    batch[i][rows] = record.get(i);
+
+                rows++;
+            }
+
+            if (rows == 0)
+                break;
+
+            out.writeInt(rows);
+
+            for (int i = 0; i < fields.length; i++)
+                writeVector(out, kinds[i], batch[i], rows);
+
+            if (rows < batchSize)
+                break;
+        }
+
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private static final void writeVector(DataOutputStream out, byte kind, Object[] values, int rows) throws IOException {
+        byte[] validity = new byte[(rows + 7) / 8];
+
+        for (int r = 0; r < rows; r++)
+            if (values[r] != null)
+                validity[r >> 3] |= 1 << (r & 7);
+
+        out.write(validity);
+
+        switch (kind) {
+            case BOOLEAN:
+                for (int r = 0; r < rows; r++)
+                    out.writeByte(values[r] != null && Convert.convert(values[r], Boolean.class) ? 1 : 0);
+                break;
+
+            case TINYINT:
+                for (int r = 0; r < rows; r++)
+                    out.writeByte(values[r] == null ? 0 : ((Number) values[r]).byteValue());
+                break;
+
+            case SMALLINT:
+                for (int r = 0; r < rows; r++)
+                    out.writeShort(values[r] == null ? 0 : ((Number) values[r]).shortValue());
+                break;
+
+            case INTEGER:
+                for (int r = 0; r < rows; r++)
+                    out.writeInt(values[r] == null ? 0 : ((Number) values[r]).intValue());
+                break;
+
+            case BIGINT:
+                for (int r = 0; r < rows; r++)
+                    out.writeLong(values[r] == null ? 0L : ((Number) values[r]).longValue());
+                break;
+
+            case REAL:
+                for (int r = 0; r < rows; r++)
+                    out.writeFloat(values[r] == null ? 0.0f : ((Number) values[r]).floatValue());
+                break;
+
+            case DOUBLE:
+                for (int r = 0; r < rows; r++)
+                    out.writeDouble(values[r] == null ? 0.0 : ((Number) values[r]).doubleValue());
+                break;
+
+            case DATE:
+                for (int r = 0; r < rows; r++)
+                    out.writeInt(values[r] == null ? 0 : (int) Convert.convert(values[r], LocalDate.class).toEpochDay());
+                break;
+
+            case TIME:
+                for (int r = 0; r < rows; r++)
+                    out.writeLong(values[r] == null ? 0L : Convert.convert(values[r], LocalTime.class).toNanoOfDay());
+                break;
+
+            case TIMESTAMP:
+                for (int r = 0; r < rows; r++) {
+                    if (values[r] == null) {
+                        out.writeLong(0L);
+                        out.writeInt(0);
+                    }
+                    else {
+                        LocalDateTime t = Convert.convert(values[r], LocalDateTime.class);
+                        out.writeLong(t.toEpochSecond(ZoneOffset.UTC));
+                        out.writeInt(t.getNano());
+                    }
+                }
+                break;
+
+            default: {
+                byte[][] data = new byte[rows][];
+
+                for (int r = 0; r < rows; r++)
+                    if (values[r] != null)
+                        data[r] = bytes(kind, values[r]);
+
+                int offset = 0;
+                out.writeInt(offset);
+                for (int r = 0; r < rows; r++)
+                    out.writeInt(offset += data[r] == null ? 0 : data[r].length);
+
+                for (int r = 0; r < rows; r++)
+                    if (data[r] != null)
+                        out.write(data[r]);
+
+                break;
+            }
+        }
+    }
+
+    private static final byte[] bytes(byte kind, Object value) {
+        switch (kind) {
+            case DECIMAL: {
+                BigDecimal d = value instanceof BigDecimal ? (BigDecimal) value : Convert.convert(value, BigDecimal.class);
+                byte[] unscaled = d.unscaledValue().toByteArray();
+                byte[] result = new byte[4 + unscaled.length];
+                int scale = d.scale();
+
+                result[0] = (byte) (scale >>> 24);
+                result[1] = (byte) (scale >>> 16);
+                result[2] = (byte) (scale >>> 8);
+                result[3] = (byte) scale;
+                System.arraycopy(unscaled, 0, result, 4, unscaled.length);
+                return result;
+            }
+
+            case BINARY:
+                return (byte[]) value;
+
+            default:
+                return Convert.convert(value, String.class).getBytes(UTF_8);
+        }
+    }
+}
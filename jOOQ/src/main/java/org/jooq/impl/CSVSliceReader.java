@@ -0,0 +1,417 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.jooq.Field;
+import org.jooq.tools.csv.CSVParser;
+import org.jooq.tools.reflect.Reflect;
+
+/**
+ * A CSV reader for the {@link org.jooq.Loader} API, which avoids most of the
+ * per-line and per-field allocations of {@link org.jooq.tools.csv.CSVReader}.
+ * <p>
+ * Characters are read in large blocks into a single reusable buffer. Each
+ * record is tokenised in place into field slices of that buffer, unescaping
+ * quoted content by shifting it to the left, which never requires more space
+ * than the raw content. Only once a record is complete are its field slices
+ * decoded:
+ * <ul>
+ * <li>Empty fields produce the shared empty string.</li>
+ * <li>Fields matching the loader's <code>nullString</code> produce
+ * <code>null</code>.</li>
+ * <li>Fields targeting integer or {@link BigDecimal} types are decoded
+ * directly from the buffer, without an intermediate {@link String}.</li>
+ * <li>All other fields produce a {@link String}.</li>
+ * </ul>
+ * Fields that cannot be decoded directly are left as {@link String}, such that
+ * {@link org.jooq.DataType#convert(Object)} still applies its usual
+ * conversion rules. Without a supplier of target fields, all non-null fields
+ * produce a {@link String}.
+ * <p>
+ * Quoting follows the rules of {@link CSVParser} with its default escape
+ * character: quoted fields may contain separators and line breaks, and quotes
+ * are escaped either by doubling them or by the escape character.
+ *
+ * @author Lukas Eder
+ */
+final class CSVSliceReader implements Iterator<Object[]>, AutoCloseable {
+
+    private static final int              BUFFER_SIZE = 65536;
+
+    private final Reader                  reader;
+    private final char                    separator;
+    private final char                    quote;
+    private final char                    escape;
+    private final char[]                  nullString;
+    private final Supplier<Field<?>[]>    fields;
+    private int                           skipLines;
+
+    private char[]                        buf         = new char[BUFFER_SIZE];
+    private int                           limit;
+    private boolean                       eof;
+
+    // Tokeniser state, relative to the buffer
+    private int                           pos;
+    private int                           write;
+    private int                           recordStart;
+    private int[]                         starts      = new int[16];
+    private int[]                         ends        = new int[16];
+    private int                           count;
+
+    // The decoders per column, once the target fields are known
+    private Class<?>[]                    types;
+    private Object[]                      next;
+
+    CSVSliceReader(Reader reader, char separator, char quote, int skipLines, String nullString, Supplier<Field<?>[]> fields) {
+        if (separator == quote)
+            throw new UnsupportedOperationException("The separator, quote, and escape characters must be different!");
+
+        this.reader = reader;
+        this.separator = separator;
+        this.quote = quote;
+        this.escape = CSVParser.DEFAULT_ESCAPE_CHARACTER == separator || CSVParser.DEFAULT_ESCAPE_CHARACTER == quote
+            ? CSVParser.NULL_CHARACTER
+            : CSVParser.DEFAULT_ESCAPE_CHARACTER;
+        this.nullString = nullString == null ? null : nullString.toCharArray();
+        this.fields = fields;
+        this.skipLines = skipLines;
+    }
+
+    /**
+     * Read the next record as raw strings, e.g. for a header record.
+     */
+    final String[] nextStrings() {
+        if (!readRecord())
+            return null;
+
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++)
+            result[i] = new String(buf, starts[i], ends[i] - starts[i]);
+
+        return result;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && readRecord())
+            next = decode();
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Tokenising
+    // -------------------------------------------------------------------------
+
+    private final boolean readRecord() {
+        while (skipLines > 0) {
+            skipLines--;
+
+            if (!tokenise())
+                return false;
+        }
+
+        return tokenise();
+    }
+
+    /**
+     * Tokenise the next record into {@link #starts} and {@link #ends}.
+     * <p>
+     * While tokenising, slices are kept relative to {@link #recordStart}, as
+     * {@link #fill()} may move the record within the buffer.
+     */
+    private final boolean tokenise() {
+        recordStart = pos;
+        write = pos;
+        count = 0;
+
+        int fieldStart = 0;
+        boolean inQuotes = false;
+        boolean empty = true;
+
+        for (;;) {
+            if (pos >= limit && !fill()) {
+                if (empty)
+                    return false;
+
+                return record(fieldStart);
+            }
+
+            char c = buf[pos];
+            empty = false;
+
+            if (inQuotes) {
+                if ((c == quote || c == escape && escape != CSVParser.NULL_CHARACTER) && lookahead()) {
+                    char n = buf[pos + 1];
+
+                    if (n == quote || (c == escape && n == escape)) {
+                        buf[write++] = n;
+                        pos += 2;
+                        continue;
+                    }
+                }
+
+                if (c == quote)
+                    inQuotes = false;
+                else
+                    buf[write++] = c;
+
+                pos++;
+            }
+            else if (c == separator) {
+                field(fieldStart);
+                fieldStart = write - recordStart;
+                pos++;
+            }
+            else if (c == '\n' || c == '\r') {
+                pos++;
+
+                if (c == '\r' && (pos < limit || fill()) && buf[pos] == '\n')
+                    pos++;
+
+                return record(fieldStart);
+            }
+            else if (c == quote) {
+
+                // Discard white space leading up to an opening quote
+                if (allWhitespace(recordStart + fieldStart, write)) {
+                    write = recordStart + fieldStart;
+                    inQuotes = true;
+                }
+
+                // The tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                else {
+                    buf[write++] = c;
+                }
+
+                pos++;
+            }
+            else {
+                buf[write++] = c;
+                pos++;
+            }
+        }
+    }
+
+    private final void field(int fieldStart) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+
+        starts[count] = fieldStart;
+        ends[count] = write - recordStart;
+        count++;
+    }
+
+    private final boolean record(int fieldStart) {
+        field(fieldStart);
+
+        for (int i = 0; i < count; i++) {
+            starts[i] += recordStart;
+            ends[i] += recordStart;
+        }
+
+        return true;
+    }
+
+    private final boolean allWhitespace(int from, int to) {
+        for (int i = from; i < to; i++)
+            if (!Character.isWhitespace(buf[i]))
+                return false;
+
+        return true;
+    }
+
+    private final boolean lookahead() {
+        return pos + 1 < limit || fill() && pos + 1 < limit;
+    }
+
+    /**
+     * Read more characters, moving the current record to the start of the
+     * buffer, or growing the buffer if the record does not fit.
+     */
+    private final boolean fill() {
+        if (eof)
+            return false;
+
+        if (recordStart > 0) {
+            System.arraycopy(buf, recordStart, buf, 0, limit - recordStart);
+            limit -= recordStart;
+            pos -= recordStart;
+            write -= recordStart;
+            recordStart = 0;
+        }
+
+        if (limit == buf.length)
+            buf = Arrays.copyOf(buf, buf.length * 2);
+
+        try {
+            int read = reader.read(buf, limit, buf.length - limit);
+
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+
+            limit += read;
+            return true;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Decoding
+    // -------------------------------------------------------------------------
+
+    private final Object[] decode() {
+        if (types == null && fields != null) {
+            Field<?>[] f = fields.get();
+
+            if (f != null) {
+                types = new Class[f.length];
+
+                for (int i = 0; i < f.length; i++)
+                    if (f[i] != null)
+                        types[i] = Reflect.wrapper(f[i].getType());
+            }
+        }
+
+        Object[] result = new Object[count];
+        for (int i = 0; i < count; i++)
+            result[i] = decode(i, starts[i], ends[i]);
+
+        return result;
+    }
+
+    private final Object decode(int column, int start, int end) {
+        if (start == end)
+            return "";
+
+        if (nullString != null && isNullString(start, end))
+            return null;
+
+        Class<?> type = types != null && column < types.length ? types[column] : null;
+
+        if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            Long l = parseLong(start, end);
+
+            if (l != null) {
+                long v = l;
+
+                if (type == Long.class)
+                    return l;
+                else if (type == Integer.class && v == (int) v)
+                    return (int) v;
+                else if (type == Short.class && v == (short) v)
+                    return (short) v;
+                else if (type == Byte.class && v == (byte) v)
+                    return (byte) v;
+            }
+        }
+        else if (type == BigDecimal.class && !Character.isWhitespace(buf[start]) && !Character.isWhitespace(buf[end - 1])) {
+            try {
+                return new BigDecimal(buf, start, end - start);
+            }
+            catch (NumberFormatException ignore) {}
+        }
+
+        return new String(buf, start, end - start);
+    }
+
+    private final boolean isNullString(int start, int end) {
+        if (end - start != nullString.length)
+            return false;
+
+        for (int i = 0; i < nullString.length; i++)
+            if (buf[start + i] != nullString[i])
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Parse an optionally signed sequence of at most 18 decimal digits, or
+     * return <code>null</code> if the slice is not such a sequence.
+     */
+    private final Long parseLong(int start, int end) {
+        boolean negative = buf[start] == '-';
+        int i = negative ? start + 1 : start;
+
+        if (i == end || end - i > 18)
+            return null;
+
+        long result = 0L;
+        for (; i < end; i++) {
+            char c = buf[i];
+
+            if (c < '0' || c > '9')
+                return null;
+
+            result = result * 10 + (c - '0');
+        }
+
+        return negative ? -result : result;
+    }
+}
@@ -41,6 +41,8 @@ import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
@@ -73,17 +75,18 @@ final class Cache {
         if (!type.category.predicate.test(configuration.settings()))
             return operation.get();
 
+        // [#2965] Concurrent calls may race to provide a cache, in case of
+        // which all but the first one are discarded.
         Object cacheOrNull = configuration.data(type);
         if (cacheOrNull == null) {
-            synchronized (type) {
-                cacheOrNull = configuration.data(type);
-
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
-            }
+            Object provided = defaultIfNull(
+                configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
+                NULL
+            );
+
+            cacheOrNull = configuration.data().putIfAbsent(type, provided);
+            if (cacheOrNull == null)
+                cacheOrNull = provided;
         }
 
         if (cacheOrNull == NULL)
@@ -91,20 +94,26 @@ final class Cache {
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
+        // recursively, a Loader placeholder is put in the cache while the
+        // operation runs, without holding any locks. Other threads missing
+        // the same key wait for that Loader, while misses on other keys
+        // proceed independently.
         Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
         Object k = key.get();
         Object v = cache.get(k);
+
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            Loader loader = new Loader();
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
+            v = cache.putIfAbsent(k, loader);
+            if (v == null)
+                return (V) loader.load(cache, k, operation);
         }
 
-        return (V) (v == NULL ? null : v);
+        if (v instanceof Loader)
+            return (V) ((Loader) v).await(operation);
+        else
+            return (V) (v == NULL ? null : v);
     }
 
     /**
@@ -112,6 +121,74 @@ final class Cache {
      */
     private static final Object NULL = new Object();
 
+    /**
+     * The {@link Loader} each thread is currently waiting for, if any.
+     */
+    private static final Map<Thread, Loader> WAITING = new ConcurrentHashMap<>();
+
+    /**
+     * A placeholder for a value that is being loaded by its {@link #owner}
+     * thread.
+     */
+    private static final class Loader {
+        final Thread                            owner  = Thread.currentThread();
+        final CompletableFuture<Object>         result = new CompletableFuture<>();
+
+        Object load(Map<Object, Object> cache, Object k, Supplier<?> operation) {
+            Object v;
+
+            try {
+                v = operation.get();
+            }
+            catch (RuntimeException | Error e) {
+                cache.remove(k, this);
+                result.completeExceptionally(e);
+                throw e;
+            }
+
+            // The Loader may have been evicted in the meantime, in case of
+            // which the value just isn't cached
+            cache.replace(k, this, v == null ? NULL : v);
+            result.complete(v);
+            return v;
+        }
+
+        Object await(Supplier<?> operation) {
+            Thread current = Thread.currentThread();
+
+            // A recursive load of the same key by the same thread cannot wait
+            // for itself
+            if (owner == current)
+                return operation.get();
+
+            WAITING.put(current, this);
+
+            try {
+
+                // Waiting for a Loader whose owner is (transitively) waiting
+                // for the current thread would deadlock. Such cyclic loads are
+                // run without caching.
+                int hops = WAITING.size();
+                for (Loader l = this; l != null && hops-- >= 0; l = WAITING.get(l.owner))
+                    if (l.owner == current)
+                        return operation.get();
+
+                return result.join();
+            }
+            catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) e.getCause();
+                else if (e.getCause() instanceof Error)
+                    throw (Error) e.getCause();
+                else
+                    throw e;
+            }
+            finally {
+                WAITING.remove(current);
+            }
+        }
+    }
+
     /**
      * Create a single-value or multi-value key for caching.
      */
@@ -42,6 +42,7 @@ import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
@@ -121,7 +122,13 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for SQL strings normalised by the {@link DiagnosticsConnection},
+     * which uses the same parser as the {@link DSLContext#parsingConnection()}.
+     */
+    CACHE_DIAGNOSTICS_NORMALISED_SQL(PARSING_CONNECTION, "org.jooq.configuration.cache.diagnostics-normalised-sql");
 
     final CacheCategory category;
     final String        key;
@@ -132,14 +139,21 @@ public enum CacheType {
     }
 
     enum CacheCategory {
-        REFLECTION(SettingsTools::reflectionCaching),
-        RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        REFLECTION(SettingsTools::reflectionCaching, null),
+        RECORD_MAPPER(SettingsTools::recordMapperCaching, null),
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching, SettingsTools::parsingConnectionCacheSize);
+
+        final Predicate<? super Settings>             predicate;
 
-        final Predicate<? super Settings> predicate;
+        /**
+         * The maximum size of caches of this category, or <code>null</code> if
+         * caches of this category are unbounded.
+         */
+        final Function<? super Settings, Integer>    size;
 
-        CacheCategory(Predicate<? super Settings> predicate) {
+        CacheCategory(Predicate<? super Settings> predicate, Function<? super Settings, Integer> size) {
             this.predicate = predicate;
+            this.size = size;
         }
     }
 }
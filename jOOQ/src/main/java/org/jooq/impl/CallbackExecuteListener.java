@@ -201,6 +201,13 @@ public final class CallbackExecuteListener implements ExecuteListener {
             onResultStart.fire(ctx);
     }
 
+    /**
+     * Whether any record event handlers are present.
+     */
+    final boolean recordEvents() {
+        return onRecordStart != null || onRecordEnd != null;
+    }
+
     @Override
     public final void recordStart(ExecuteContext ctx) {
         if (onRecordStart != null)
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over an {@link Iterator} of unknown size, which splits
+ * off fixed size chunks.
+ * <p>
+ * The iterator is consumed sequentially, but each call to {@link #trySplit()}
+ * copies the next <code>chunkSize</code> elements into an array based
+ * {@link Spliterator}, which can be processed by another fork join task. Unlike
+ * {@link Spliterators#spliteratorUnknownSize(Iterator, int)}, which splits off
+ * chunks of increasing size starting with 1024 elements, this allows for
+ * processing small results in parallel, too.
+ *
+ * @author Lukas Eder
+ */
+final class ChunkedSpliterator<T> implements Spliterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final int                   chunkSize;
+    private final int                   characteristics;
+
+    ChunkedSpliterator(Iterator<? extends T> iterator, int chunkSize, int characteristics) {
+        this.iterator = iterator;
+        this.chunkSize = chunkSize;
+        this.characteristics = characteristics & ~(SIZED | SUBSIZED);
+    }
+
+    @Override
+    public final boolean tryAdvance(Consumer<? super T> action) {
+        if (!iterator.hasNext())
+            return false;
+
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public final void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(action);
+    }
+
+    @Override
+    public final Spliterator<T> trySplit() {
+        if (!iterator.hasNext())
+            return null;
+
+        Object[] chunk = new Object[chunkSize];
+        int size = 0;
+
+        do {
+            chunk[size++] = iterator.next();
+        }
+        while (size < chunkSize && iterator.hasNext());
+
+        return Spliterators.spliterator(chunk, 0, size, characteristics);
+    }
+
+    @Override
+    public final long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public final int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import org.jooq.Clause;
+import org.jooq.CompiledQuery;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.RowCountQuery;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A {@link CompiledQuery} producing {@link RowCountQuery} executions.
+ *
+ * @author Lukas Eder
+ */
+final class CompiledQueryImpl extends AbstractCompiledQuery<RowCountQuery> {
+
+    CompiledQueryImpl(Configuration configuration, Query query) {
+        super(configuration, query);
+    }
+
+    @Override
+    final RowCountQuery bind0(QueryPartList<Param<?>> params) {
+        return new CompiledRowCountQuery(this, params);
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+
+    /**
+     * An execution of a {@link CompiledQueryImpl}.
+     */
+    private static final class CompiledRowCountQuery extends AbstractRowCountQuery {
+
+        private final CompiledQueryImpl       compiled;
+        private final QueryPartList<Param<?>> params;
+
+        CompiledRowCountQuery(CompiledQueryImpl compiled, QueryPartList<Param<?>> params) {
+            super(compiled.configuration);
+
+            this.compiled = compiled;
+            this.params = params;
+        }
+
+        @Override
+        final Rendered cachedRendered(Configuration c) {
+            return compiled.rendered(c, params);
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            compiled.accept(ctx, params);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return null;
+        }
+    }
+}
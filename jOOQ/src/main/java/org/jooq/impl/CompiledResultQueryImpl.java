@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.isEmpty;
+
+import java.sql.ResultSetMetaData;
+import java.util.Collection;
+
+import org.jooq.Clause;
+import org.jooq.CompiledResultQuery;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Row;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A {@link CompiledResultQuery} producing {@link ResultQuery} executions.
+ * <p>
+ * The result field layout and record type of the original query are frozen
+ * along with its SQL string, so executions can construct their records without
+ * consulting the original query again.
+ *
+ * @author Lukas Eder
+ */
+final class CompiledResultQueryImpl<R extends Record> extends AbstractCompiledQuery<ResultQuery<R>> implements CompiledResultQuery<R>, FieldsTrait {
+
+    private final Field<?>[]          fields;
+    private final Class<? extends R>  recordType;
+
+    CompiledResultQueryImpl(Configuration configuration, ResultQuery<R> query) {
+        super(configuration, query);
+
+        // The fields as they are selected, rather than as they are exposed by
+        // Select.fields(), which returns the fields of a derived table
+        this.fields = query instanceof ResultQueryTrait
+            ? ((ResultQueryTrait<R>) query).getFields()
+            : query.fields();
+        this.recordType = query.getRecordType();
+    }
+
+    @Override
+    final ResultQuery<R> bind0(QueryPartList<Param<?>> params) {
+        return new CompiledResultQueryExecution<>(this, params);
+    }
+
+    @Override
+    public final Row fieldsRow() {
+        return Tools.row0(fields.clone());
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+
+    /**
+     * An execution of a {@link CompiledResultQueryImpl}.
+     */
+    private static final class CompiledResultQueryExecution<R extends Record> extends AbstractResultQuery<R> {
+
+        private final CompiledResultQueryImpl<R> compiled;
+        private final QueryPartList<Param<?>>    params;
+
+        CompiledResultQueryExecution(CompiledResultQueryImpl<R> compiled, QueryPartList<Param<?>> params) {
+            super(compiled.configuration);
+
+            this.compiled = compiled;
+            this.params = params;
+        }
+
+        @Override
+        final Rendered cachedRendered(Configuration c) {
+            return compiled.rendered(c, params);
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            compiled.accept(ctx, params);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return null;
+        }
+
+        @Override
+        public final Class<? extends R> getRecordType0() {
+            return compiled.recordType;
+        }
+
+        @Override
+        public final Field<?>[] getFields(ResultSetMetaData meta) {
+            Field<?>[] result = getFields();
+
+            // Plain SQL queries may not know their fields prior to execution
+            if (!isEmpty(result))
+                return result;
+            else
+                return new MetaDataFieldProvider(configuration(), meta).getFields();
+        }
+
+        @Override
+        public final Field<?>[] getFields() {
+            Collection<? extends Field<?>> coerce = coerce();
+
+            if (!isEmpty(coerce))
+                return coerce.toArray(EMPTY_FIELD);
+            else
+                return compiled.fields;
+        }
+    }
+}
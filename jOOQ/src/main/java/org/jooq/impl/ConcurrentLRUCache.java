@@ -0,0 +1,328 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe, lock free cache approximating LRU semantics.
+ * <p>
+ * Unlike a {@link java.util.Collections#synchronizedMap(Map)} wrapped
+ * {@link LRUCache}, this cache doesn't need a monitor for lookups. Entries are
+ * stored in a {@link ConcurrentHashMap}, and evictions are governed by the
+ * <a href="https://en.wikipedia.org/wiki/Page_replacement_algorithm#Clock">CLOCK
+ * algorithm</a>: Each entry occupies a slot in a ring of <code>size</code>
+ * slots and carries a "referenced" flag, which is set on every read. When a new
+ * entry needs a slot, the clock hand advances over the ring, clearing the flags
+ * of referenced entries, until it finds an unreferenced entry to evict.
+ * <p>
+ * The cache may briefly exceed its size by the number of concurrently
+ * inserting threads.
+ *
+ * @author Lukas Eder
+ */
+final class ConcurrentLRUCache<K, V> extends AbstractMap<K, V> {
+
+    private final int                                  size;
+    private final ConcurrentHashMap<K, Node<K, V>>     map;
+    private final AtomicReferenceArray<Node<K, V>>     ring;
+    private final AtomicInteger                        hand;
+    private final LongAdder                            hits;
+    private final LongAdder                            misses;
+    private final LongAdder                            evictions;
+
+    ConcurrentLRUCache(int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("Cache size must be positive: " + size);
+
+        this.size = size;
+        this.map = new ConcurrentHashMap<>();
+        this.ring = new AtomicReferenceArray<>(size);
+        this.hand = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    // -------------------------------------------------------------------------
+    // Statistics
+    // -------------------------------------------------------------------------
+
+    /**
+     * The maximum number of entries in this cache.
+     */
+    final int maxSize() {
+        return size;
+    }
+
+    /**
+     * The number of successful lookups.
+     */
+    final long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of unsuccessful lookups.
+     */
+    final long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of entries that were evicted to make room for new entries.
+     */
+    final long evictions() {
+        return evictions.sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // Map API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final V get(Object key) {
+        Node<K, V> node = map.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        node.touch();
+        return node.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = map.putIfAbsent(key, node);
+
+        // The key is already cached. Replace the value of its node, which
+        // retains its slot in the ring
+        if (previous != null) {
+            V result = previous.value;
+            previous.value = value;
+            previous.touch();
+            return result;
+        }
+
+        claimSlot(node);
+        return null;
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = map.putIfAbsent(key, node);
+
+        if (previous != null) {
+            previous.touch();
+            return previous.value;
+        }
+
+        claimSlot(node);
+        return null;
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        Node<K, V> node = map.get(key);
+
+        if (node == null)
+            return false;
+
+        for (;;) {
+            V current = node.value;
+
+            if (!Objects.equals(current, oldValue))
+                return false;
+            else if (VALUE.compareAndSet(node, current, newValue))
+                return true;
+        }
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        Node<K, V> node = map.get(key);
+        return node != null && Objects.equals(node.value, value) && map.remove(key, node);
+    }
+
+    @Override
+    public final V remove(Object key) {
+        Node<K, V> node = map.remove(key);
+
+        // The node's slot in the ring is recycled lazily by the clock hand
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public final void clear() {
+        map.clear();
+
+        for (int i = 0; i < size; i++)
+            ring.set(i, null);
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLRUCache [size=" + size() + "/" + size
+            + ", hits=" + hits()
+            + ", misses=" + misses()
+            + ", evictions=" + evictions()
+            + "]";
+    }
+
+    // -------------------------------------------------------------------------
+    // CLOCK eviction
+    // -------------------------------------------------------------------------
+
+    private final void claimSlot(Node<K, V> node) {
+
+        // After two full sweeps, every flag has been cleared at least once.
+        // Only concurrent reads can keep us from finding a victim, in case of
+        // which the next slot is evicted regardless of its flag.
+        int attempts = 2 * size;
+
+        for (;;) {
+            int i = Math.floorMod(hand.getAndIncrement(), size);
+            Node<K, V> victim = ring.get(i);
+
+            if (victim != null && victim.referenced && attempts-- > 0) {
+                victim.referenced = false;
+                continue;
+            }
+
+            if (ring.compareAndSet(i, victim, node)) {
+                if (victim != null && map.remove(victim.key, victim))
+                    evictions.increment();
+
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Object> VALUE = AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+
+    private static final class Node<K, V> {
+        final K           key;
+        volatile V        value;
+        volatile boolean  referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        final void touch() {
+
+            // Avoid needless writes to shared cache lines on hot reads
+            if (!referenced)
+                referenced = true;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public final Iterator<Entry<K, V>> iterator() {
+            Iterator<Node<K, V>> it = map.values().iterator();
+
+            return new Iterator<Entry<K, V>>() {
+                Node<K, V> last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    last = it.next();
+                    return new SimpleImmutableEntry<>(last.key, last.value);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null)
+                        throw new IllegalStateException();
+
+                    map.remove(last.key, last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public final int size() {
+            return map.size();
+        }
+
+        @Override
+        public final void clear() {
+            ConcurrentLRUCache.this.clear();
+        }
+    }
+}
@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 // ...
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.jooq.impl.RowField.NO_NATIVE_SUPPORT;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
@@ -51,6 +52,7 @@ import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
@@ -69,10 +71,17 @@ import java.util.Calendar;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Supplier;
 
+import org.jooq.Binding;
 import org.jooq.BindingGetResultSetContext;
 import org.jooq.Converter;
+import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
@@ -80,6 +89,13 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultBinding.DefaultByteBinding;
+import org.jooq.impl.DefaultBinding.DefaultDoubleBinding;
+import org.jooq.impl.DefaultBinding.DefaultFloatBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
+import org.jooq.impl.DefaultBinding.DefaultShortBinding;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -93,6 +109,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
+    private final boolean                                  recordEvents;
     private final boolean[]                                intern;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
@@ -111,6 +128,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     private transient Iterator<R>                          iterator;
     private transient int                                  rows;
+    private transient int                                  prefetch;
 
     @SuppressWarnings("unchecked")
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet) {
@@ -122,6 +140,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+        this.recordEvents = ExecuteListeners.recordEvents(this.listener);
         this.factory = recordFactory(type, this.fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
@@ -196,11 +215,37 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
 
 
+
+    /**
+     * Read up to <code>size</code> records ahead of the consumer in a producer
+     * thread, once iteration starts.
+     *
+     * @return The cursor to be returned to the consumer, which is this cursor,
+     *         unless records are prefetched.
+     */
+    final Cursor<R> prefetch(int size) {
+        this.prefetch = size;
+        return size > 0 ? new PrefetchingCursor<>(this) : this;
+    }
+
+    /**
+     * Fail if a connection is acquired while its {@link ResultSet} is being
+     * read by the producer of a prefetching cursor in another thread, as JDBC
+     * connections must not be used concurrently.
+     */
+    static final void checkNotPrefetching(Connection c) {
+        if (!PREFETCHING.isEmpty()) {
+            CursorImpl<?>.CursorPrefetchIterator it = PREFETCHING.get(c);
+
+            if (it != null && it.thread != Thread.currentThread())
+                throw new DataAccessException("Connection is in use by a cursor that prefetches records in another thread. Close the cursor first, or execute the query on another connection");
+        }
+    }
 
     @Override
     public final Iterator<R> iterator() {
         if (iterator == null) {
-            iterator = new CursorIterator();
+            iterator = prefetch > 0 ? new CursorPrefetchIterator(prefetch) : new CursorIterator(autoclosing);
             listener.fetchStart(ctx);
         }
 
@@ -228,6 +273,11 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     @Override
     public final void close() {
+
+        // The producer must have stopped reading before the ResultSet is closed
+        if (iterator instanceof CursorImpl.CursorPrefetchIterator)
+            ((CursorPrefetchIterator) iterator).cancel();
+
         JDBCUtils.safeClose(rs);
         rs = null;
         isClosed = true;
@@ -243,6 +293,208 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         return rs;
     }
 
+    @Override
+    final PrimitiveIterator.OfInt intIterator(int fieldIndex) {
+        Field<?> field = columnField(fieldIndex);
+
+        if (field == null)
+            return super.intIterator(fieldIndex);
+
+        boolean direct = direct(field, DefaultIntegerBinding.class, DefaultShortBinding.class, DefaultByteBinding.class);
+        return new CursorIntIterator(field, fieldIndex + 1, direct);
+    }
+
+    @Override
+    final PrimitiveIterator.OfLong longIterator(int fieldIndex) {
+        Field<?> field = columnField(fieldIndex);
+
+        if (field == null)
+            return super.longIterator(fieldIndex);
+
+        boolean direct = direct(field, DefaultLongBinding.class, DefaultIntegerBinding.class, DefaultShortBinding.class, DefaultByteBinding.class);
+        return new CursorLongIterator(field, fieldIndex + 1, direct);
+    }
+
+    @Override
+    final PrimitiveIterator.OfDouble doubleIterator(int fieldIndex) {
+        Field<?> field = columnField(fieldIndex);
+
+        if (field == null)
+            return super.doubleIterator(fieldIndex);
+
+        boolean direct = direct(field, DefaultDoubleBinding.class, DefaultFloatBinding.class);
+        return new CursorDoubleIterator(field, fieldIndex + 1, direct);
+    }
+
+    /**
+     * The field at a given index, if its values can be read without creating
+     * records, or <code>null</code> if this cursor has already been iterated,
+     * or if nested records shift the JDBC column index.
+     */
+    private final Field<?> columnField(int fieldIndex) {
+        if (iterator != null)
+            return null;
+
+        for (int i = 0; i <= fieldIndex; i++) {
+            Field<?> f = uncoerce(fields.field(i));
+
+            if (f instanceof RowField || f.getDataType().isEmbeddable())
+                return null;
+        }
+
+        return fields.field(fieldIndex);
+    }
+
+    /**
+     * Whether the field's values can be read through primitive JDBC getters,
+     * bypassing its binding.
+     */
+    private static final boolean direct(Field<?> field, Class<?>... bindings) {
+        Binding<?, ?> binding = field.getBinding();
+
+        if (binding.converter() instanceof IdentityConverter)
+            for (Class<?> type : bindings)
+                if (type.isInstance(binding))
+                    return true;
+
+        return false;
+    }
+
+    /**
+     * A base iterator for reading the values of a single column.
+     */
+    private abstract class CursorColumnIterator {
+        private final Field<?> field;
+        final int              index;
+        final boolean          direct;
+        private Boolean        hasNext;
+
+        CursorColumnIterator(Field<?> field, int index, boolean direct) {
+            this.field = field;
+            this.index = index;
+            this.direct = direct;
+
+            listener.fetchStart(ctx);
+        }
+
+        public final boolean hasNext() {
+            if (hasNext == null) {
+                try {
+
+                    // Some databases (e.g. Redshift) do not implement JDBC's maxRows.
+                    hasNext = !isClosed && (maxRows <= 0 || rows < maxRows) && rs.next();
+
+                    if (hasNext)
+                        rows++;
+                }
+                catch (SQLException e) {
+                    throw fail(e);
+                }
+
+                if (!hasNext && autoclosing)
+                    CursorImpl.this.close();
+            }
+
+            return hasNext;
+        }
+
+        final void advance() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+            hasNext = null;
+        }
+
+        /**
+         * Read the current value through the field's binding.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Object value() throws SQLException {
+            rsContext.index(index);
+            rsContext.field((Field) field);
+            field.getBinding().get((BindingGetResultSetContext) rsContext);
+            return rsContext.value();
+        }
+
+        final RuntimeException fail(Exception e) {
+
+            // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+            if (e instanceof ControlFlowSignal)
+                return (ControlFlowSignal) e;
+            else if (e instanceof SQLException)
+                ctx.sqlException(new SQLException("Error while reading field: " + field + ", at JDBC index: " + index, e));
+            else
+                ctx.exception((RuntimeException) e);
+
+            listener.exception(ctx);
+            return ctx.exception();
+        }
+    }
+
+    private final class CursorIntIterator extends CursorColumnIterator implements PrimitiveIterator.OfInt {
+        CursorIntIterator(Field<?> field, int index, boolean direct) {
+            super(field, index, direct);
+        }
+
+        @Override
+        public final int nextInt() {
+            advance();
+
+            try {
+                return direct ? rs.getInt(index) : intValue(value());
+            }
+            catch (SQLException | RuntimeException e) {
+                throw fail(e);
+            }
+        }
+    }
+
+    private final class CursorLongIterator extends CursorColumnIterator implements PrimitiveIterator.OfLong {
+        CursorLongIterator(Field<?> field, int index, boolean direct) {
+            super(field, index, direct);
+        }
+
+        @Override
+        public final long nextLong() {
+            advance();
+
+            try {
+                return direct ? rs.getLong(index) : longValue(value());
+            }
+            catch (SQLException | RuntimeException e) {
+                throw fail(e);
+            }
+        }
+    }
+
+    private final class CursorDoubleIterator extends CursorColumnIterator implements PrimitiveIterator.OfDouble {
+        CursorDoubleIterator(Field<?> field, int index, boolean direct) {
+            super(field, index, direct);
+        }
+
+        @Override
+        public final double nextDouble() {
+            advance();
+
+            try {
+                if (direct) {
+                    try {
+                        return rs.getDouble(index);
+                    }
+
+                    // Some drivers cannot read special values like Infinity
+                    // using getDouble(), which the binding knows how to handle
+                    catch (SQLException ignore) {}
+                }
+
+                return doubleValue(value());
+            }
+            catch (SQLException | RuntimeException e) {
+                throw fail(e);
+            }
+        }
+    }
+
     /**
      * A wrapper for the underlying JDBC {@link ResultSet} and {@link Statement}
      */
@@ -1365,6 +1617,11 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
      */
     final class CursorIterator implements Iterator<R> {
 
+        /**
+         * Whether the cursor is closed after the last record.
+         */
+        private final boolean                        autoclose;
+
         /**
          * The (potentially) pre-fetched next record
          */
@@ -1383,12 +1640,19 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         /**
          * [#11099] Cache this instance for the entire cursor.
+         * <p>
+         * The initialiser holds a reader plan for all the cursor's fields,
+         * including nested records, which is resolved only once.
          */
-        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0);
+        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0, intern);
 
         @SuppressWarnings("unchecked")
         private final RecordDelegate<AbstractRecord> recordDelegate = Tools.newRecord(true, (Supplier<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration());
 
+        CursorIterator(boolean autoclose) {
+            this.autoclose = autoclose;
+        }
+
         @Override
         public final boolean hasNext() {
             if (hasNext == null) {
@@ -1421,7 +1685,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             try {
                 if (!isClosed && rs.next()) {
-                    record = recordDelegate.operate(initialiser.reset());
+                    record = recordDelegate.operate(initialiser);
                     rows++;
                 }
             }
@@ -1444,7 +1708,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             // [#1868] [#2373] [#2385] [#8544] This calls through to
             // Utils.safeClose() if necessary, lazy-terminating the ExecuteListener
             // lifecycle if the result is not eager-fetched.
-            if (record == null && autoclosing) {
+            if (record == null && autoclose) {
                 CursorImpl.this.close();
             }
 
@@ -1458,109 +1722,383 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
-            private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final FieldReader[] readers;
+            private final boolean[]     intern;
 
-            CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
-                this.initialiserFields = initialiserFields;
-                this.offset = offset;
+            /**
+             * The number of JDBC columns read by this initialiser, including
+             * the columns of nested records.
+             */
+            private final int           span;
+
+            @SuppressWarnings("unchecked")
+            CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset, boolean[] intern) {
+                int size = initialiserFields.size();
+                int next = offset;
+
+                this.readers = (FieldReader[]) new CursorImpl.CursorIterator.FieldReader[size];
+                this.intern = intern;
+
+                for (int i = 0; i < size; i++) {
+                    readers[i] = reader(initialiserFields.field(i), next);
+                    next += readers[i].span();
+                }
+
+                this.span = next - offset;
             }
 
-            CursorRecordInitialiser reset() {
-                offset = 0;
-                return this;
+            /**
+             * Resolve the reader of a field, starting at a JDBC column offset.
+             */
+            @SuppressWarnings("unchecked")
+            private final FieldReader reader(Field<?> field, int offset) {
+
+                // [#7100] TODO: This should be transparent to the CursorImpl
+                //         RowField may have a Row[N].mapping(...) applied
+                Field<?> f = uncoerce(field);
+                AbstractRow<?> nested = null;
+                Class<? extends AbstractRecord> recordType = null;
+
+                if (f instanceof RowField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
+                    nested = ((RowField<?, ?>) f).emulatedFields(configuration);
+                    recordType = Tools.recordType(nested.size());
+                }
+                else if (f.getDataType().isEmbeddable()) {
+                    nested = Tools.row0(embeddedFields(f));
+                    recordType = embeddedRecordType(f);
+                }
+
+                if (nested != null)
+                    return new NestedReader(field, f, offset, (AbstractRow<AbstractRecord>) nested, (Class<AbstractRecord>) recordType);
+                else
+                    return new ValueReader(field, offset);
             }
 
             @Override
             public AbstractRecord apply(AbstractRecord record) throws SQLException {
                 ctx.record(record);
-                listener.recordStart(ctx);
-                int size = initialiserFields.size();
 
+                if (recordEvents)
+                    listener.recordStart(ctx);
 
+                for (int i = 0; i < readers.length; i++) {
+                    FieldReader reader = readers[i];
 
+                    try {
+                        Object value = reader.read();
+                        record.set0(i, value, value);
+                    }
 
+                    // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
+                    catch (Exception e) {
+                        throw new SQLException("Error while reading field: " + reader.field + ", at JDBC index: " + (reader.offset + 1), e);
+                    }
+                }
 
+                if (intern != null)
+                    for (int i = 0; i < intern.length; i++)
+                        if (intern[i])
+                            record.intern0(i);
 
+                ctx.record(record);
 
+                if (recordEvents)
+                    listener.recordEnd(ctx);
 
+                return record;
+            }
+        }
 
+        /**
+         * A reader for a single field of the current row.
+         */
+        private abstract class FieldReader {
+            final Field<?> field;
+            final int      offset;
 
+            FieldReader(Field<?> field, int offset) {
+                this.field = field;
+                this.offset = offset;
+            }
 
+            /**
+             * The number of JDBC columns read by this reader.
+             */
+            abstract int span();
 
+            abstract Object read() throws SQLException;
+        }
 
+        /**
+         * A reader for a field whose value is read from a single JDBC column.
+         */
+        private final class ValueReader extends FieldReader {
+            private final Binding<?, ?> binding;
 
+            ValueReader(Field<?> field, int offset) {
+                super(field, offset);
 
+                this.binding = field.getBinding();
+            }
 
+            @Override
+            final int span() {
+                return 1;
+            }
 
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            @Override
+            final Object read() throws SQLException {
+                rsContext.index(offset + 1);
+                rsContext.field((Field) field);
+                ((Binding) binding).get(rsContext);
+                return rsContext.value();
+            }
+        }
 
+        /**
+         * A reader for a field whose value is a nested record spanning
+         * several JDBC columns, e.g. an embeddable or an emulated
+         * {@link RowField}.
+         */
+        private final class NestedReader extends FieldReader {
+            private final CursorRecordInitialiser        initialiser;
+            private final RecordDelegate<AbstractRecord> recordDelegate;
+            private final Converter<Object, Object>      converter;
 
+            @SuppressWarnings("unchecked")
+            NestedReader(Field<?> field, Field<?> uncoerced, int offset, AbstractRow<AbstractRecord> nested, Class<AbstractRecord> recordType) {
+                super(field, offset);
 
-                for (int i = 0; i < size; i++)
-                    setValue(record, initialiserFields.field(i), i);
+                this.initialiser = new CursorRecordInitialiser(nested, offset, null);
+                this.recordDelegate = Tools.newRecord(true, recordType, nested, ((DefaultExecuteContext) ctx).originalConfiguration());
 
-                if (intern != null)
-                    for (int i = 0; i < intern.length; i++)
-                        if (intern[i])
-                            record.intern0(i);
+                // [#7100] TODO: Is there a more elegant way to do this?
+                this.converter = uncoerced != field ? (Converter<Object, Object>) field.getConverter() : null;
+            }
 
-                ctx.record(record);
-                listener.recordEnd(ctx);
+            @Override
+            final int span() {
+                return initialiser.span;
+            }
 
-                return record;
+            @Override
+            final Object read() throws SQLException {
+                Object value = recordDelegate.operate(initialiser);
+                return converter != null ? converter.from(value) : value;
             }
+        }
+    }
 
-            /**
-             * Utility method to prevent unnecessary unchecked conversions
-             */
-            @SuppressWarnings("unchecked")
-            private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
-                try {
-                    T value;
-                    AbstractRow<?> nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
+    /**
+     * An iterator that reads records from a {@link CursorIterator} in a
+     * producer thread of the {@link org.jooq.ExecutorProvider}, ahead of the
+     * consumer.
+     * <p>
+     * At most <code>size</code> records are buffered. The producer is blocked
+     * when the buffer is full, and the consumer is blocked when it is empty.
+     * The producer is started on the first call to {@link #hasNext()}, and
+     * stopped by {@link CursorImpl#close()}, which waits for it to stop reading
+     * from the {@link ResultSet} before closing it.
+     * <p>
+     * The producer terminates by publishing a terminal element, rather than
+     * by queueing it, such that the terminal element can't get lost when the
+     * buffer is full. While the producer is reading, the cursor's connection
+     * is registered in {@link #PREFETCHING}, such that other threads fail to
+     * acquire it, see {@link #checkNotPrefetching(Connection)}. Cursors that
+     * are abandoned without being closed are closed by
+     * {@link PrefetchingCursor}.
+     */
+    private final class CursorPrefetchIterator implements Iterator<R> {
 
-                    // [#7100] TODO: This should be transparent to the CursorImpl
-                    //         RowField may have a Row[N].mapping(...) applied
-                    Field<?> f = uncoerce(field);
+        private final BlockingQueue<Object> queue;
+        private final CountDownLatch        done;
+        private volatile boolean            cancelled;
+        private volatile Object             terminal;
+        private volatile Thread             thread;
+        private boolean                     started;
+        private Connection                  connection;
+        private Object                      next;
 
-                    if (f instanceof RowField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
-                        nested = ((RowField<?, ?>) f).emulatedFields(configuration);
-                        recordType = Tools.recordType(nested.size());
-                    }
-                    else if (f.getDataType().isEmbeddable()) {
-                        nested = Tools.row0(embeddedFields(f));
-                        recordType = embeddedRecordType(f);
-                    }
+        CursorPrefetchIterator(int size) {
+            this.queue = new ArrayBlockingQueue<>(size);
+            this.done = new CountDownLatch(1);
+        }
 
-                    int nestedOffset = offset + index;
-                    if (nested != null) {
-                        CursorRecordInitialiser operation = new CursorRecordInitialiser(nested, nestedOffset);
-                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) recordType, (AbstractRow<AbstractRecord>) nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(operation);
+        @Override
+        public final boolean hasNext() {
+            if (next == null) {
+                if (cancelled)
+                    return false;
 
-                        // [#7100] TODO: Is there a more elegant way to do this?
-                        if (f != field)
-                            value = ((Converter<Object, T>) field.getConverter()).from(value);
+                if (!started) {
+                    started = true;
+                    start();
+                }
 
-                        offset += operation.offset - nestedOffset + nested.size() - 1;
-                    }
-                    else {
-                        rsContext.index(nestedOffset + 1);
-                        rsContext.field((Field) field);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
-                    }
+                next = take();
+
+                // [#1868] [#2373] [#2385] [#8544] The producer doesn't close
+                // the cursor, to keep the ResultSet open until the consumer
+                // has seen all records.
+                if (next == COMPLETE && autoclosing)
+                    CursorImpl.this.close();
+            }
+
+            if (next instanceof Failure) {
+                Throwable cause = ((Failure) next).cause;
+
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                else if (cause instanceof Error)
+                    throw (Error) cause;
+                else
+                    throw new DataAccessException("Error while prefetching records", cause);
+            }
+
+            return next != COMPLETE;
+        }
 
-                    record.values[index] = value;
-                    record.originals[index] = value;
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+            R result = (R) next;
+            next = null;
+            return result;
+        }
+
+        private final void start() {
+            connection = ((DefaultExecuteContext) ctx).unwrappedConnection();
+
+            if (connection != null && PREFETCHING.putIfAbsent(connection, this) != null) {
+                connection = null;
+                done.countDown();
+                throw new DataAccessException("Connection is in use by another cursor that prefetches records");
+            }
+
+            try {
+                configuration.executorProvider().provide().execute(this::produce);
+            }
+            catch (RuntimeException e) {
+                unregister();
+                done.countDown();
+                throw e;
+            }
+        }
+
+        private final void unregister() {
+            if (connection != null)
+                PREFETCHING.remove(connection, this);
+        }
+
+        /**
+         * Take the next buffered record, or the terminal element once the
+         * buffer is drained.
+         */
+        private final Object take() {
+            try {
+                for (;;) {
+                    Object result = queue.poll();
+
+                    if (result != null)
+                        return result;
+
+                    // All records are queued before the terminal element is
+                    // published
+                    Object t = terminal;
+                    if (t != null)
+                        return (result = queue.poll()) != null ? result : t;
+
+                    result = queue.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+                    if (result != null)
+                        return result;
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for prefetched records", e);
+            }
+        }
+
+        private final void produce() {
+            thread = Thread.currentThread();
+
+            try {
+                CursorIterator it = new CursorIterator(false);
+
+                records:
+                while (!cancelled && it.hasNext()) {
+                    R record = it.next();
+
+                    while (!queue.offer(record, POLL_INTERVAL_MILLIS, MILLISECONDS))
+                        if (cancelled)
+                            break records;
                 }
 
-                // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
-                catch (Exception e) {
-                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                terminal = COMPLETE;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                terminal = new Failure(e);
+            }
+            catch (Throwable e) {
+                terminal = new Failure(e);
+            }
+            finally {
+                unregister();
+                done.countDown();
+            }
+        }
+
+        /**
+         * Stop the producer and wait for it to terminate.
+         */
+        final void cancel() {
+            if (cancelled)
+                return;
+
+            cancelled = true;
+
+            if (started) {
+                queue.clear();
+
+                try {
+                    done.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
             }
         }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The interval at which a blocked producer or consumer checks for
+     * cancellation and termination.
+     */
+    private static final long                                                 POLL_INTERVAL_MILLIS = 100L;
+
+    /**
+     * The connections whose {@link ResultSet} is being read by the producer of
+     * a prefetching cursor.
+     */
+    private static final Map<Connection, CursorImpl<?>.CursorPrefetchIterator> PREFETCHING          = new ConcurrentHashMap<>();
+
+    private static final Object                                               COMPLETE             = new Object();
+
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
     }
 }
@@ -53,6 +53,15 @@ final class DefaultBindContext extends AbstractBindContext {
         super(configuration, stmt);
     }
 
+    /**
+     * Reset the bind index, such that this context can bind another set of
+     * bind values to the same statement, e.g. in a batch.
+     */
+    final DefaultBindContext resetIndex() {
+        index = 0;
+        return this;
+    }
+
     @Override
     @SuppressWarnings({ "unchecked" })
     protected final BindContext bindValue0(Object value, Field<?> field) throws SQLException {
@@ -435,6 +435,57 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
     }
 
+    /**
+     * Whether a binding renders the same bind variable SQL for all of its
+     * values in a given dialect, such that SQL strings containing the bind
+     * variable can be reused when only the bind value changes.
+     * <p>
+     * This is conservative: user defined bindings and types whose bind
+     * variables may be cast depending on the value (e.g. {@link BigDecimal}
+     * precision and scale, <code>OTHER</code> types, or Firebird string
+     * lengths) are not value independent.
+     */
+    static final boolean valueIndependentSQL(Binding<?, ?> binding, SQLDialect dialect) {
+        if (binding instanceof DefaultBinding)
+            binding = ((DefaultBinding<?, ?>) binding).delegate;
+
+        if (!(binding instanceof AbstractBinding))
+            return false;
+
+        AbstractBinding<?, ?> b = (AbstractBinding<?, ?>) binding;
+        DataType<?> sqlDataType = b.dataType.getSQLDataType();
+
+        if (b.dataType.isEnum() || OTHER == sqlDataType)
+            return false;
+        else if (b.dataType.getType() == BigDecimal.class && AbstractBinding.NEEDS_PRECISION_SCALE_ON_BIGDECIMAL.contains(dialect))
+            return false;
+        else if (FIREBIRD == dialect.family() && (sqlDataType == VARCHAR || sqlDataType == CHAR) && !b.dataType.lengthDefined())
+            return false;
+
+        if (b instanceof DelegatingBinding)
+            b = ((DelegatingBinding<?, ?, ?>) b).delegatingBinding;
+
+        return b instanceof DefaultBigDecimalBinding
+            || b instanceof DefaultBigIntegerBinding
+            || b instanceof DefaultBooleanBinding
+            || b instanceof DefaultByteBinding
+            || b instanceof DefaultBytesBinding
+            || b instanceof DefaultDateBinding
+            || b instanceof DefaultDoubleBinding
+            || b instanceof DefaultFloatBinding
+            || b instanceof DefaultInstantBinding
+            || b instanceof DefaultIntegerBinding
+            || b instanceof DefaultLongBinding
+            || b instanceof DefaultNStringBinding
+            || b instanceof DefaultOffsetDateTimeBinding
+            || b instanceof DefaultOffsetTimeBinding
+            || b instanceof DefaultShortBinding
+            || b instanceof DefaultStringBinding
+            || b instanceof DefaultTimeBinding
+            || b instanceof DefaultTimestampBinding
+            || b instanceof DefaultUUIDBinding;
+    }
+
     /**
      * @deprecated - 3.11 - [#6631] - Use {@link #binding(Converter)} instead.
      */
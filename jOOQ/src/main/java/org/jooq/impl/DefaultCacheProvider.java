@@ -37,9 +37,7 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
-import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,8 +46,9 @@ import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
 
 /**
- * A default implementation producing a {@link ConcurrentHashMap} in most cases,
- * or a synchronized LRU cache where appropriate.
+ * A default implementation producing {@link ConcurrentLRUCache} instances for
+ * bounded {@link CacheType} values and {@link ConcurrentHashMap} instances for
+ * all others.
  *
  * @author Lukas Eder
  */
@@ -57,15 +56,13 @@ final class DefaultCacheProvider implements CacheProvider {
 
     @Override
     public Map<Object, Object> provide(CacheContext ctx) {
-        switch (ctx.cacheType()) {
+        Integer size = ctx.cacheType().category.size == null
+            ? null
+            : ctx.cacheType().category.size.apply(settings(ctx.configuration()));
 
-            // TODO: Is there a better implementation than wrapping LinkedHashMap
-            // in synchronizedMap(), i.e. one that does not use a monitor?
-            case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
-
-            default:
-                return new ConcurrentHashMap<>();
-        }
+        if (size != null && size > 0)
+            return new ConcurrentLRUCache<>(size);
+        else
+            return new ConcurrentHashMap<>();
     }
 }
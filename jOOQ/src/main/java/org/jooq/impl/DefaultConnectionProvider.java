@@ -38,10 +38,12 @@
 package org.jooq.impl;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 
 import org.jooq.ConnectionProvider;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -65,14 +67,31 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     private static final JooqLogger log = JooqLogger.getLogger(DefaultConnectionProvider.class);
     Connection                      connection;
     final boolean                   finalize;
+    final boolean                   cacheStatements;
+    private volatile StatementCache statementCache;
 
     public DefaultConnectionProvider(Connection connection) {
         this(connection, false);
     }
 
     DefaultConnectionProvider(Connection connection, boolean finalize) {
+        this(connection, finalize, true);
+    }
+
+    DefaultConnectionProvider(Connection connection, boolean finalize, boolean cacheStatements) {
         this.connection = connection;
         this.finalize = finalize;
+        this.cacheStatements = cacheStatements;
+    }
+
+    /**
+     * A provider for a connection that is borrowed from another
+     * {@link ConnectionProvider} only for the duration of an internal
+     * operation, and that must not cache any statements, as nothing closes
+     * them before the connection is released.
+     */
+    static final DefaultConnectionProvider borrowed(Connection connection) {
+        return new DefaultConnectionProvider(connection, false, false);
     }
 
     // -------------------------------------------------------------------------
@@ -96,11 +115,97 @@ public class DefaultConnectionProvider implements ConnectionProvider {
         super.finalize();
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Prepared statement caching
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of times a cached {@link PreparedStatement} could be reused
+     * for the connection of this provider.
+     *
+     * @see Settings#getCachePreparedStatementLRUCacheSize()
+     */
+    public final long getStatementCacheHits() {
+        StatementCache cache = statementCache;
+        return cache == null ? 0L : cache.hits.get();
+    }
+
+    /**
+     * The number of times a {@link PreparedStatement} had to be prepared for
+     * the connection of this provider, despite statement caching being
+     * active.
+     *
+     * @see Settings#getCachePreparedStatementLRUCacheSize()
+     */
+    public final long getStatementCacheMisses() {
+        StatementCache cache = statementCache;
+        return cache == null ? 0L : cache.misses.get();
+    }
+
+    /**
+     * The number of cached {@link PreparedStatement} instances that were
+     * closed because the cache exceeded its capacity.
+     *
+     * @see Settings#getCachePreparedStatementLRUCacheSize()
+     */
+    public final long getStatementCacheEvictions() {
+        StatementCache cache = statementCache;
+        return cache == null ? 0L : cache.evictions.get();
+    }
+
+    /**
+     * Close all cached {@link PreparedStatement} instances of the connection of
+     * this provider.
+     * <p>
+     * This is done automatically when the connection is replaced through
+     * {@link #setConnection(Connection)}, or when a transaction ends.
+     */
+    public final void closeStatementCache() {
+        StatementCache cache;
+
+        synchronized (this) {
+            cache = statementCache;
+            statementCache = null;
+        }
+
+        if (cache != null)
+            cache.close();
+    }
+
+    /**
+     * The statement cache of this provider's connection, lazily initialised,
+     * or <code>null</code> if the argument connection is not this provider's
+     * connection, or if this provider doesn't cache statements.
+     */
+    final StatementCache statementCache(Connection c) {
+        if (!cacheStatements)
+            return null;
+
+        StatementCache result = statementCache;
+
+        if (result != null && result.connection == c)
+            return result;
+
+        synchronized (this) {
+            if (c != connection || c == null)
+                return null;
+
+            result = statementCache;
+            if (result == null)
+                statementCache = result = new StatementCache(c);
+
+            return result;
+        }
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Original DSLContext/Factory API (JDBC utility methods)
     // -------------------------------------------------------------------------
 
     public final void setConnection(Connection connection) {
+        if (this.connection != connection)
+            closeStatementCache();
+
         this.connection = connection;
     }
 
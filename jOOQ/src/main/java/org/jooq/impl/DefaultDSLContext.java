@@ -103,6 +103,8 @@ import org.jooq.Catalog;
 import org.jooq.Commit;
 import org.jooq.Commits;
 import org.jooq.CommonTableExpression;
+import org.jooq.CompiledQuery;
+import org.jooq.CompiledResultQuery;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.ConnectionCallable;
@@ -704,22 +706,22 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public String render(QueryPart part) {
-        return renderContext().visit(part).render();
+        return DefaultRenderContext.renderAndRelease(renderContext().visit(part));
     }
 
     @Override
     public String renderNamedParams(QueryPart part) {
-        return renderContext().paramType(NAMED).visit(part).render();
+        return DefaultRenderContext.renderAndRelease(renderContext().paramType(NAMED).visit(part));
     }
 
     @Override
     public String renderNamedOrInlinedParams(QueryPart part) {
-        return renderContext().paramType(NAMED_OR_INLINED).visit(part).render();
+        return DefaultRenderContext.renderAndRelease(renderContext().paramType(NAMED_OR_INLINED).visit(part));
     }
 
     @Override
     public String renderInlined(QueryPart part) {
-        return renderContext().paramType(INLINED).visit(part).render();
+        return DefaultRenderContext.renderAndRelease(renderContext().paramType(INLINED).visit(part));
     }
 
     @Override
@@ -794,6 +796,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new BlockImpl(configuration(), statements, true);
     }
 
+    @Override
+    public CompiledQuery<RowCountQuery> compile(Query query) {
+        return new CompiledQueryImpl(configuration(), query);
+    }
+
+    @Override
+    public <R extends Record> CompiledResultQuery<R> compile(ResultQuery<R> query) {
+        return new CompiledResultQueryImpl<>(configuration(), query);
+    }
+
 
 
 
@@ -1461,10 +1473,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                 for (String[] values : strings.subList(firstRowIndex, strings.size())) {
                     RecordImplN record = new RecordImplN(row);
 
-                    for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-                        record.values[i] = values[i];
-                        record.originals[i] = values[i];
-                    }
+                    for (int i = 0; i < Math.min(values.length, fields.length); i++)
+                        record.set0(i, values[i], values[i]);
 
                     result.add(record);
                 }
@@ -567,11 +567,24 @@ class DefaultExecuteContext implements ExecuteContext {
             LOCAL_CONNECTION.set(c);
             connection = c;
             wrappedConnection = wrapConnection(provider, c);
+
+            // Fail only once the connection is registered, such that it is
+            // released again when this context is closed
+            CursorImpl.checkNotPrefetching(c);
         }
     }
 
+    /**
+     * The connection as it was acquired from the {@link ConnectionProvider},
+     * if any.
+     */
+    final Connection unwrappedConnection() {
+        return connection;
+    }
+
     private final SettingsEnabledConnection wrapConnection(ConnectionProvider provider, Connection c) {
-        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings(), this);
+        Settings settings = derivedConfiguration.settings();
+        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, StatementCache.of(provider, c, settings)), settings, this);
     }
 
     final void incrementStatementExecutionCount() {
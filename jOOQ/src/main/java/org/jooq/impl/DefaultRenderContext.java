@@ -94,6 +94,15 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     private static final Pattern          NEWLINE            = Pattern.compile("[\\n\\r]");
     private static final Set<String>      SQLITE_KEYWORDS;
 
+    /**
+     * A per-thread buffer, released by top level contexts once their SQL has
+     * been rendered, such that steady state rendering doesn't have to grow a
+     * new {@link StringBuilder} for each SQL string. Buffers that have grown
+     * beyond {@link #BUFFER_MAX_CAPACITY} aren't retained.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+    private static final int              BUFFER_MAX_CAPACITY = 65536;
+
     final StringBuilder                   sql;
     private final QueryPartList<Param<?>> bindValues;
     private int                           alias;
@@ -120,7 +129,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
         Settings settings = configuration.settings();
 
-        this.sql = new StringBuilder();
+        this.sql = borrowBuffer();
         this.bindValues = new QueryPartList<>();
         this.cachedRenderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
         this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
@@ -321,7 +330,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
                             c
                         );
 
-                        replacedSQL = ctx.render();
+                        replacedSQL = ctx.renderAndRelease();
                         insertedBindValues = ctx.bindValues();
                         break elementLoop;
                     }
@@ -382,7 +391,41 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     @Override
     public final String render(QueryPart part) {
-        return new DefaultRenderContext(this).visit(part).render();
+        return renderAndRelease(new DefaultRenderContext(this).visit(part));
+    }
+
+    /**
+     * Render the SQL string and release this context's buffer for reuse by
+     * subsequent contexts of the same thread.
+     * <p>
+     * This context must not be used to render any further SQL after this
+     * call.
+     */
+    final String renderAndRelease() {
+        String result = render();
+
+        if (sql.capacity() <= BUFFER_MAX_CAPACITY) {
+            sql.setLength(0);
+            BUFFER.set(sql);
+        }
+
+        return result;
+    }
+
+    static final String renderAndRelease(RenderContext ctx) {
+        return ctx instanceof DefaultRenderContext
+             ? ((DefaultRenderContext) ctx).renderAndRelease()
+             : ctx.render();
+    }
+
+    private static final StringBuilder borrowBuffer() {
+        StringBuilder result = BUFFER.get();
+
+        if (result == null)
+            return new StringBuilder();
+
+        BUFFER.set(null);
+        return result;
     }
 
     @Override
@@ -719,8 +762,17 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
                     checkForceInline(threshold);
                 }
                 else {
-                    switch (family()) {
+                    checkForceInline(maxBindValues(family()));
+                }
+            }
+        }
+    }
 
+    /**
+     * The maximum number of bind values per statement supported by a dialect.
+     */
+    static final int maxBindValues(SQLDialect dialect) {
+        switch (dialect.family()) {
 
 
 
@@ -744,20 +796,16 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
 
 
-                        // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
-                        case POSTGRES:
-                            checkForceInline(32767);
-                            break;
 
-                        case SQLITE:
-                            checkForceInline(999);
-                            break;
+            // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
+            case POSTGRES:
+                return 32767;
 
-                        default:
-                            break;
-                    }
-                }
-            }
+            case SQLITE:
+                return 999;
+
+            default:
+                return Integer.MAX_VALUE;
         }
     }
 
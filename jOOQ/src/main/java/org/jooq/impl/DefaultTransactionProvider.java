@@ -230,6 +230,7 @@ public class DefaultTransactionProvider implements TransactionProvider {
         //         try-finally will ensure that the ConnectionProvider.release() call is made
         finally {
             if (!start) {
+                connection.closeStatementCache();
                 connectionProvider.release(connection.connection);
                 configuration.data().remove(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION);
             }
@@ -37,26 +37,35 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.conf.DiagnosticsSampling.EVERY_NTH_STATEMENT;
+import static org.jooq.conf.DiagnosticsSampling.STATEMENT_HASH;
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
+import static org.jooq.impl.CacheType.CACHE_DIAGNOSTICS_NORMALISED_SQL;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jooq.Configuration;
 import org.jooq.Parser;
 import org.jooq.Queries;
 import org.jooq.RenderContext;
+import org.jooq.conf.DiagnosticsSampling;
 import org.jooq.conf.SettingsTools;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.DefaultConnection;
 
 /**
@@ -64,11 +73,23 @@ import org.jooq.tools.jdbc.DefaultConnection;
  */
 final class DiagnosticsConnection extends DefaultConnection {
 
+    private static final JooqLogger       log             = JooqLogger.getLogger(DiagnosticsConnection.class);
+
     // TODO: Make these configurable
     static final int                      LRU_SIZE_GLOBAL = 50000;
     static final int                      LRU_SIZE_LOCAL  = 500;
     static final int                      DUP_SIZE        = 500;
-    static final Map<String, Set<String>> DUPLICATE_SQL   = Collections.synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL));
+    static final int                      MAX_PENDING     = 64;
+
+    /**
+     * The normalised SQL strings seen by all connections, and their original
+     * SQL strings.
+     * <p>
+     * This registry is shared by all threads, so it is lock free. The sets of
+     * original SQL strings are concurrent, too, as they're passed on to
+     * {@link DiagnosticsListeners} while other threads may still add to them.
+     */
+    static final Map<String, Set<String>> DUPLICATE_SQL   = new ConcurrentLRUCache<>(LRU_SIZE_GLOBAL);
 
     final Map<String, List<String>>       repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
     final Configuration                   configuration;
@@ -76,6 +97,34 @@ final class DiagnosticsConnection extends DefaultConnection {
     final Parser                          parser;
     final DiagnosticsListeners            listeners;
 
+    /**
+     * The executor running the diagnostics, or <code>null</code> if they run
+     * on the calling thread.
+     */
+    final Executor                        executor;
+
+    /**
+     * The last diagnostics task of this connection. Tasks run sequentially,
+     * so the (not thread safe) per-connection state need not be synchronised.
+     */
+    CompletableFuture<Void>               diagnosing;
+
+    /**
+     * The number of diagnostics tasks that have not yet completed. Statements
+     * are not diagnosed while {@link #MAX_PENDING} tasks are pending, which
+     * bounds the chain of tasks if the executor can't keep up.
+     */
+    final AtomicInteger                   pending;
+    int                                   dropped;
+
+    /**
+     * Only 1 in <code>sampleRate</code> statements is diagnosed. Other
+     * statements bypass diagnostics entirely.
+     */
+    final int                             sampleRate;
+    final DiagnosticsSampling             sampling;
+    int                                   sampleCounter;
+
     DiagnosticsConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
 
@@ -91,6 +140,16 @@ final class DiagnosticsConnection extends DefaultConnection {
         ).dsl().renderContext();
         this.parser = configuration.dsl().parser();
         this.listeners = DiagnosticsListeners.get(configuration);
+        this.executor = defaultIfNull(configuration.settings().isDiagnosticsAsync(), false)
+            ? configuration.executorProvider().provide()
+            : null;
+        this.diagnosing = CompletableFuture.completedFuture(null);
+        this.pending = new AtomicInteger();
+        this.sampleRate = Math.max(1, defaultIfNull(configuration.settings().getDiagnosticsSampleRate(), 1));
+        this.sampling = defaultIfNull(configuration.settings().getDiagnosticsSampling(), EVERY_NTH_STATEMENT);
+
+        // Short lived connections shouldn't all diagnose their first statement
+        this.sampleCounter = sampleRate > 1 ? ThreadLocalRandom.current().nextInt(sampleRate) : 0;
     }
 
     @Override
@@ -110,72 +169,133 @@ final class DiagnosticsConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql)));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql)))
+            : getDelegate().prepareStatement(sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency))
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability))
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), autoGeneratedKeys));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), autoGeneratedKeys))
+            : getDelegate().prepareStatement(sql, autoGeneratedKeys);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnIndexes));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnIndexes))
+            : getDelegate().prepareStatement(sql, columnIndexes);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnNames));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnNames))
+            : getDelegate().prepareStatement(sql, columnNames);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql)));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql)))
+            : getDelegate().prepareCall(sql);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency))
+            : getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability));
+        return sampled(sql)
+            ? new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability))
+            : getDelegate().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     }
 
+    /**
+     * Release the connection, after waiting for pending diagnostics tasks,
+     * of which there are at most {@link #MAX_PENDING}.
+     */
     @Override
     public final void close() throws SQLException {
+        if (executor != null) {
+            diagnosing.join();
+
+            if (dropped > 0)
+                log.info("Diagnostics", "Skipped diagnosing " + dropped + " statements, as " + MAX_PENDING + " statements were pending");
+
+            dropped = 0;
+        }
+
         repeatedSQL.clear();
         configuration.connectionProvider().release(getDelegate());
     }
 
-    final String parse(String sql) {
-        Queries queries;
-        String normalised;
-
-        try {
-            queries = parser.parse(sql);
-            normalised = normalisingRenderer.render(queries);
-        }
-        catch (ParserException ignore) {
-            normalised = sql;
+    /**
+     * Whether a statement should be diagnosed.
+     */
+    final boolean sampled(String sql) {
+        if (sampleRate == 1)
+            return true;
+
+        // A given SQL string is either always or never diagnosed, which
+        // keeps duplicate and repetition diagnostics consistent
+        if (sampling == STATEMENT_HASH) {
+            int h = sql.hashCode();
+            return Math.floorMod(h ^ (h >>> 16), sampleRate) == 0;
         }
 
-        Set<String> duplicates;
-        synchronized (DUPLICATE_SQL) {
-            duplicates = duplicates(DUPLICATE_SQL, sql, normalised);
+        if (++sampleCounter < sampleRate)
+            return false;
+
+        sampleCounter = 0;
+        return true;
+    }
+
+    final String parse(String sql) {
+        if (executor == null)
+            diagnose(sql);
+        else if (pending.get() >= MAX_PENDING)
+            dropped++;
+        else {
+            pending.incrementAndGet();
+            diagnosing = diagnosing
+                .thenRunAsync(() -> diagnose(sql), executor)
+                .handle((v, t) -> {
+                    pending.decrementAndGet();
+
+                    if (t != null)
+                        log.warn("Diagnostics", "Error while diagnosing SQL: " + sql, t);
+
+                    return null;
+                });
         }
 
+        return sql;
+    }
+
+    private final void diagnose(String sql) {
+        String normalised = Cache.run(configuration, () -> normalise(sql), CACHE_DIAGNOSTICS_NORMALISED_SQL, () -> sql);
+        Set<String> duplicates = duplicates(DUPLICATE_SQL, sql, normalised);
+
         if (duplicates != null)
             listeners.duplicateStatements(new DefaultDiagnosticsContext(sql, normalised, duplicates, null));
 
@@ -183,12 +303,27 @@ final class DiagnosticsConnection extends DefaultConnection {
 
         if (repetitions != null)
             listeners.repeatedStatements(new DefaultDiagnosticsContext(sql, normalised, null, repetitions));
+    }
 
-        return sql;
+    private final String normalise(String sql) {
+        try {
+            Queries queries = parser.parse(sql);
+            return normalisingRenderer.render(queries);
+        }
+        catch (ParserException ignore) {
+            return sql;
+        }
     }
 
     private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
-        Set<String> v = map.computeIfAbsent(normalised, k -> new HashSet<>());
+        Set<String> v = map.get(normalised);
+
+        if (v == null) {
+            Set<String> n = ConcurrentHashMap.newKeySet();
+
+            if ((v = map.putIfAbsent(normalised, n)) == null)
+                v = n;
+        }
 
         if (v.size() >= DUP_SIZE || (v.add(sql) && v.size() > 1))
             return v;
@@ -59,76 +59,83 @@ final class DiagnosticsStatement extends DefaultCallableStatement {
 
     @Override
     public final ResultSet executeQuery(String sql) throws SQLException {
-        return new DiagnosticsResultSet(super.executeQuery(connection.parse(sql)), sql, this, connection);
+        if (connection.sampled(sql))
+            return new DiagnosticsResultSet(super.executeQuery(connection.parse(sql)), sql, this, connection);
+        else
+            return super.executeQuery(sql);
     }
 
     @Override
     public final int executeUpdate(String sql) throws SQLException {
-        return super.executeUpdate(connection.parse(sql));
+        return super.executeUpdate(parse(sql));
     }
 
     @Override
     public final int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), autoGeneratedKeys);
+        return super.executeUpdate(parse(sql), autoGeneratedKeys);
     }
 
     @Override
     public final int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), columnIndexes);
+        return super.executeUpdate(parse(sql), columnIndexes);
     }
 
     @Override
     public final int executeUpdate(String sql, String[] columnNames) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), columnNames);
+        return super.executeUpdate(parse(sql), columnNames);
     }
 
     @Override
     public final boolean execute(String sql) throws SQLException {
-        return super.execute(connection.parse(sql));
+        return super.execute(parse(sql));
     }
 
     @Override
     public final boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.execute(connection.parse(sql), autoGeneratedKeys);
+        return super.execute(parse(sql), autoGeneratedKeys);
     }
 
     @Override
     public final boolean execute(String sql, int[] columnIndexes) throws SQLException {
-        return super.execute(connection.parse(sql), columnIndexes);
+        return super.execute(parse(sql), columnIndexes);
     }
 
     @Override
     public final boolean execute(String sql, String[] columnNames) throws SQLException {
-        return super.execute(connection.parse(sql), columnNames);
+        return super.execute(parse(sql), columnNames);
     }
 
     @Override
     public final long executeLargeUpdate(String sql) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql));
+        return super.executeLargeUpdate(parse(sql));
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), autoGeneratedKeys);
+        return super.executeLargeUpdate(parse(sql), autoGeneratedKeys);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), columnIndexes);
+        return super.executeLargeUpdate(parse(sql), columnIndexes);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), columnNames);
+        return super.executeLargeUpdate(parse(sql), columnNames);
     }
 
     @Override
     public final void addBatch(String sql) throws SQLException {
-        super.addBatch(connection.parse(sql));
+        super.addBatch(parse(sql));
     }
 
     @Override
     public final Connection getConnection() throws SQLException {
         return connection;
     }
+
+    private final String parse(String sql) {
+        return connection.sampled(sql) ? connection.parse(sql) : sql;
+    }
 }
@@ -43,6 +43,8 @@ import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -59,16 +61,17 @@ import org.jooq.tools.LoggerListener;
  * @author Lukas Eder
  */
 final class ExecuteListeners implements ExecuteListener {
-    private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
-    private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteListener        EMPTY_LISTENER         = new DefaultExecuteListener();
+    private static final JooqLogger             LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final Map<Class<?>, Boolean> RECORD_EVENTS          = new ConcurrentHashMap<>();
 
-    private final ExecuteListener[][]    listeners;
+    private final ExecuteListener[][]           listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
     // an open Result
-    private boolean                      resultStart;
-    private boolean                      fetchEnd;
+    private boolean                             resultStart;
+    private boolean                             fetchEnd;
 
     /**
      * Initialise the provided {@link ExecuteListener} set and return a wrapper.
@@ -134,6 +137,44 @@ final class ExecuteListeners implements ExecuteListener {
         };
     }
 
+    /**
+     * Whether a listener obtained from {@link #get(ExecuteContext)} needs to
+     * be notified of {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events.
+     * <p>
+     * These events are fired for every fetched record, so they are worth
+     * skipping when no listener overrides them.
+     */
+    static final boolean recordEvents(ExecuteListener listener) {
+        if (listener == EMPTY_LISTENER)
+            return false;
+
+        if (listener instanceof ExecuteListeners) {
+            for (ExecuteListener l : ((ExecuteListeners) listener).listeners[0])
+                if (recordEvents0(l))
+                    return true;
+
+            return false;
+        }
+
+        return recordEvents0(listener);
+    }
+
+    private static final boolean recordEvents0(ExecuteListener listener) {
+        if (listener instanceof CallbackExecuteListener)
+            return ((CallbackExecuteListener) listener).recordEvents();
+
+        return RECORD_EVENTS.computeIfAbsent(listener.getClass(), c -> {
+            try {
+                return c.getMethod("recordStart", ExecuteContext.class).getDeclaringClass() != DefaultExecuteListener.class
+                    || c.getMethod("recordEnd", ExecuteContext.class).getDeclaringClass() != DefaultExecuteListener.class;
+            }
+            catch (NoSuchMethodException e) {
+                return true;
+            }
+        });
+    }
+
     private static final List<ExecuteListener> init(List<ExecuteListener> result) {
         return result == null ? new ArrayList<>() : result;
     }
@@ -944,6 +944,31 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
         return insertMaps.isExecutable() || defaultValues || select != null;
     }
 
+    /**
+     * Whether this is a plain single row <code>INSERT .. VALUES</code>
+     * statement, whose row can be combined with the rows of other such
+     * statements.
+     */
+    final boolean isSingleRowValues() {
+        if (with != null
+                || select != null
+                || defaultValues
+                || onDuplicateKeyUpdate
+                || onDuplicateKeyIgnore
+                || onConflict != null
+                || onConstraint != null
+                || !returning.isEmpty()
+                || insertMaps.rows != 1
+                || insertMaps.values.isEmpty())
+            return false;
+
+        for (Field<?> field : insertMaps.values.keySet())
+            if (field.getDataType().isEmbeddable())
+                return false;
+
+        return true;
+    }
+
 
 
 
@@ -0,0 +1,315 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A pull-based JSON reader producing one array per record.
+ * <p>
+ * Unlike {@link JSONReader}, this reader does not materialise the whole
+ * document. It reads the formats produced by
+ * {@link org.jooq.Formattable#formatJSON()}, i.e. either a
+ * <code>{"fields": [...], "records": [...]}</code> object or a top level
+ * array of records, where each record is an array or an object. The
+ * {@link JSONParser} is paused after each record and resumed when the next
+ * record is requested, so only the current record is held in memory.
+ * <p>
+ * The header is known once the first record has been read, which is the case
+ * after the first call to {@link #hasNext()}. If the document contains a
+ * <code>"fields"</code> entry, it must precede the <code>"records"</code>
+ * entry for its types to be applied.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class JSONStreamReader implements Iterator<Object[]>, AutoCloseable {
+
+    private final DSLContext    ctx;
+    private final Reader        reader;
+    private final JSONParser    parser;
+    private final Handler       handler;
+    private Field<?>[]          header;
+    private Object[]            next;
+    private boolean             started;
+
+    JSONStreamReader(DSLContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.reader = reader;
+        this.parser = new JSONParser();
+        this.handler = new Handler();
+    }
+
+    /**
+     * The header fields, once known.
+     */
+    final Field<?>[] fields() {
+        hasNext();
+        return header;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !handler.done) {
+            try {
+                parser.parse(reader, handler, started);
+                started = true;
+            }
+            catch (IOException e) {
+                throw new org.jooq.exception.IOException("Error while reading JSON", e);
+            }
+            catch (ParseException e) {
+                throw new RuntimeException(e);
+            }
+
+            Object record = handler.record;
+            handler.record = null;
+
+            if (record != null)
+                next = row(record);
+            else
+                handler.done = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    private final Object[] row(Object record) {
+        if (record instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) record;
+
+            if (header == null) {
+                header = new Field[map.size()];
+
+                int i = 0;
+                for (String name : map.keySet())
+                    header[i++] = field(name(name), VARCHAR);
+            }
+
+            Object[] result = new Object[header.length];
+            for (int i = 0; i < header.length; i++)
+                result[i] = value(header[i], map.get(header[i].getName()));
+
+            return result;
+        }
+        else {
+            List<Object> list = (List<Object>) record;
+
+            if (header == null)
+                header = Tools.fields(list.size());
+
+            Object[] result = new Object[Math.max(header.length, list.size())];
+            for (int i = 0; i < list.size(); i++)
+                result[i] = i < header.length ? value(header[i], list.get(i)) : list.get(i);
+
+            return result;
+        }
+    }
+
+    private static final Object value(Field<?> field, Object value) {
+
+        // [#8829] LoaderImpl expects binary data to be encoded in base64,
+        //         not according to org.jooq.tools.Convert
+        if (field.getType() == byte[].class && value instanceof String)
+            return DatatypeConverter.parseBase64Binary((String) value);
+        else
+            return field.getDataType().convert(value);
+    }
+
+    private final Field<?>[] header(List<Map<String, String>> fields) {
+        Field<?>[] result = new Field[fields.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            Map<String, String> field = fields.get(i);
+            String catalog = field.get("catalog");
+            String schema = field.get("schema");
+            String table = field.get("table");
+            String name = field.get("name");
+            String type = field.get("type");
+
+            result[i] = field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR")));
+        }
+
+        return result;
+    }
+
+    /**
+     * A {@link ContentHandler} that only builds containers below the records
+     * level, and pauses the parser after each record.
+     */
+    private final class Handler implements ContentHandler {
+
+        final Deque<Object> stack = new ArrayDeque<>();
+        final Deque<String> keys  = new ArrayDeque<>();
+        boolean             root;
+        boolean             inRecords;
+        String              rootKey;
+        Object              record;
+        boolean             done;
+
+        @Override
+        public final void startJSON() {}
+
+        @Override
+        public final void endJSON() {}
+
+        @Override
+        public final boolean startObject() {
+            if (!root)
+                root = true;
+            else
+                stack.push(new LinkedHashMap<>());
+
+            return true;
+        }
+
+        @Override
+        public final boolean endObject() {
+            return stack.isEmpty() || value(stack.pop());
+        }
+
+        @Override
+        public final boolean startObjectEntry(String key) {
+            if (stack.isEmpty())
+                rootKey = key;
+            else
+                keys.push(key);
+
+            return true;
+        }
+
+        @Override
+        public final boolean endObjectEntry() {
+            if (stack.isEmpty())
+                rootKey = null;
+
+            return true;
+        }
+
+        @Override
+        public final boolean startArray() {
+            if (!root) {
+                root = true;
+                inRecords = true;
+            }
+            else if (stack.isEmpty() && !inRecords && "records".equals(rootKey))
+                inRecords = true;
+            else
+                stack.push(new ArrayList<>());
+
+            return true;
+        }
+
+        @Override
+        public final boolean endArray() {
+            if (stack.isEmpty()) {
+                inRecords = false;
+                return true;
+            }
+
+            return value(stack.pop());
+        }
+
+        @Override
+        public final boolean primitive(Object value) {
+            if (!root)
+                root = true;
+
+            return value(value);
+        }
+
+        /**
+         * Add a completed value to its container, or handle it as a top level
+         * value, returning <code>false</code> to pause after a record.
+         */
+        private final boolean value(Object value) {
+            Object parent = stack.peek();
+
+            if (parent instanceof Map)
+                ((Map) parent).put(keys.pop(), value);
+            else if (parent instanceof List)
+                ((List) parent).add(value);
+            else if (inRecords && (value instanceof Map || value instanceof List)) {
+                record = value;
+                return false;
+            }
+            else if ("fields".equals(rootKey) && value instanceof List)
+                header = header((List<Map<String, String>>) value);
+
+            return true;
+        }
+    }
+}
@@ -64,6 +64,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.xml.bind.DatatypeConverter;
@@ -88,7 +94,6 @@ import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
@@ -97,7 +102,6 @@ import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
 
 import org.xml.sax.InputSource;
@@ -146,6 +150,7 @@ final class LoaderImpl<R extends Record> implements
     private static final int             CONTENT_XML                      = 1;
     private static final int             CONTENT_JSON                     = 2;
     private static final int             CONTENT_ARRAYS                   = 3;
+    private static final int             CONTENT_BINARY                   = 4;
 
     // Configuration data
     // ------------------
@@ -159,6 +164,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private int                          parallelism                      = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -188,6 +194,11 @@ final class LoaderImpl<R extends Record> implements
     private int                          uncommitted;
     private final List<LoaderError>      errors;
 
+    // Parallel execution data
+    // -----------------------
+    private volatile boolean             aborted;
+    private volatile Throwable           failure;
+
     LoaderImpl(Configuration configuration, Table<R> table) {
         this.configuration = configuration;
         this.table = table;
@@ -298,6 +309,12 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -348,6 +365,13 @@ final class LoaderImpl<R extends Record> implements
         return loadRecords(records.iterator());
     }
 
+    @Override
+    public final LoaderRowsStep<R> loadArrays(Flow.Publisher<? extends Object[]> a) {
+
+        // Request enough arrays to keep all parallel chunks busy, but no more
+        return loadArrays(new PublisherIterator<Object[]>(a, chunkSize() * Math.max(1, parallelism)));
+    }
+
     @Override
     public final LoaderImpl<R> loadCSV(File file) {
         return loadCSV(Source.of(file));
@@ -525,6 +549,23 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderRowsStep<R> loadBinary(File file) {
+        return loadBinary(Source.of(file));
+    }
+
+    @Override
+    public final LoaderRowsStep<R> loadBinary(InputStream stream) {
+        return loadBinary(Source.of(stream));
+    }
+
+    @Override
+    public final LoaderRowsStep<R> loadBinary(Source s) {
+        content = CONTENT_BINARY;
+        input = s;
+        return this;
+    }
+
     // -------------------------------------------------------------------------
     // CSV configuration
     // -------------------------------------------------------------------------
@@ -670,6 +711,8 @@ final class LoaderImpl<R extends Record> implements
             executeJSON();
         else if (content == CONTENT_ARRAYS)
             executeRows();
+        else if (content == CONTENT_BINARY)
+            executeBinary();
         else
             throw new IllegalStateException();
 
@@ -679,20 +722,27 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+
+        if (parallelism > 1) {
+            if (commit == COMMIT_ALL)
+                throw new LoaderConfigurationException("Cannot apply parallelism with commitAll(). Turn off either flag.");
+            else if (batch == BATCH_ALL || bulk == BULK_ALL)
+                throw new LoaderConfigurationException("Cannot apply parallelism with batchAll() or bulkAll(). Turn off either flag.");
+            else if (configuration.connectionProvider() instanceof DefaultConnectionProvider)
+                throw new LoaderConfigurationException("Cannot apply parallelism with a single JDBC Connection. Use a ConnectionProvider that can provide several connections, e.g. a DataSource.");
+        }
     }
 
     private final void executeJSON() {
-        Reader reader = null;
+        JSONStreamReader reader = null;
 
         try {
-            reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null).read(reader);
-            source = r.fields();
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+
+            // Records are parsed one at a time, the header is known once the
+            // first record has been read
+            reader = new JSONStreamReader(configuration.dsl(), input.reader());
+            source = reader.fields();
+            executeSQL(reader);
         }
         finally {
             safeClose(reader);
@@ -700,15 +750,21 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeCSV() {
-        CSVReader reader = null;
+        CSVSliceReader reader = null;
 
         try {
+
+            // Decode values directly into the target field types once they
+            // are known, to avoid intermediate Strings. Row listeners expect
+            // the String values of the CSV input, though.
+            Supplier<Field<?>[]> decode = onRowStart == null && onRowEnd == null ? () -> fields : null;
+
             if (ignoreRows == 1) {
-                reader = new CSVReader(input.reader(), separator, quote, 0);
-                source = Tools.fieldsByName(reader.next());
+                reader = new CSVSliceReader(input.reader(), separator, quote, 0, nullString, decode);
+                source = Tools.fieldsByName(reader.nextStrings());
             }
             else {
-                reader = new CSVReader(input.reader(), separator, quote, ignoreRows);
+                reader = new CSVSliceReader(input.reader(), separator, quote, ignoreRows, nullString, decode);
             }
 
             executeSQL(reader);
@@ -718,8 +774,27 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    private final void executeBinary() throws IOException {
+        BinaryReader reader = null;
+
+        try {
+            reader = new BinaryReader(configuration.dsl(), input.inputStream());
+            source = reader.fields();
+            executeSQL(reader);
+        }
+        finally {
+            safeClose(reader);
+        }
+    }
+
     private final void executeRows() {
-        executeSQL(arrays);
+        try {
+            executeSQL(arrays);
+        }
+        finally {
+            if (arrays instanceof PublisherIterator)
+                ((PublisherIterator<?>) arrays).cancel();
+        }
     }
 
     private static final class CachedPSListener extends DefaultExecuteListener implements AutoCloseable {
@@ -760,16 +835,23 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+        if (parallelism > 1)
+            executeParallel(iterator);
+        else
+            connection(ctx -> executeSQL(iterator, ctx));
+    }
+
+    private final void connection(Consumer<? super DSLContext> consumer) {
         configuration.dsl().connection(connection -> {
-            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+            Configuration c = configuration.derive(DefaultConnectionProvider.borrowed(connection));
 
             if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
+                consumer.accept(c.dsl());
             }
 
             else {
                 try (CachedPSListener cache = new CachedPSListener()) {
-                    executeSQL(iterator, c
+                    consumer.accept(c
                         .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
                         .dsl()
                     );
@@ -787,35 +869,7 @@ final class LoaderImpl<R extends Record> implements
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    row = row0(row);
 
                     // TODO: In batch mode, we can probably optimise this by not creating
                     // new statements every time, just to convert bind values to their
@@ -833,30 +887,7 @@ final class LoaderImpl<R extends Record> implements
                         insert.newRecord();
                     }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
-
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
-
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
-                    }
-
-                    // [#5200]  When the primary key is not supplied in the data,
-                    //          we'll assume it uses an identity, and there will never be duplicates
-                    // [#10358] TODO: The above should be moved inside InsertQueryImpl
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
-                        insert.onDuplicateKeyIgnore(true);
-                    }
-
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                    addRow0(insert, row);
 
                     try {
                         if (bulk != BULK_NONE) {
@@ -878,21 +909,13 @@ final class LoaderImpl<R extends Record> implements
                         }
 
                         int[] rowcounts = { 0 };
-                        int totalRowCounts = 0;
 
                         if (bind != null)
                             rowcounts = bind.execute();
                         else if (insert != null)
                             rowcounts = new int[] { insert.execute() };
 
-                        // [#10358] The MySQL dialect category doesn't return rowcounts
-                        //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
-                        //          1 = INSERT, 2 = UPDATE, instead
-                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
-                            totalRowCounts = unexecuted;
-                        else
-                            for (int rowCount : rowcounts)
-                                totalRowCounts += rowCount;
+                        int totalRowCounts = stored0(ctx, rowcounts, unexecuted);
 
                         stored += totalRowCounts;
                         ignored += unexecuted - totalRowCounts;
@@ -969,6 +992,278 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    /**
+     * Preprocess a row before it is added to an <code>INSERT</code> statement.
+     */
+    private final Object[] row0(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        rowCtx.row(row);
+        if (onRowStart != null) {
+            onRowStart.row(rowCtx);
+            row = rowCtx.row();
+        }
+
+        return row;
+    }
+
+    /**
+     * Add a preprocessed row to an <code>INSERT</code> statement.
+     */
+    private final void addRow0(InsertQuery<R> insert, Object[] row) {
+        for (int i = 0; i < row.length; i++)
+            if (i < fields.length && fields[i] != null)
+                addValue0(insert, fields[i], row[i]);
+
+        // TODO: This is only supported by some dialects. Let other
+        // dialects execute a SELECT and then either an INSERT or UPDATE
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            insert.onDuplicateKeyUpdate(true);
+
+            for (int i = 0; i < row.length; i++)
+                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                    addValueForUpdate0(insert, fields[i], row[i]);
+        }
+
+        // [#5200]  When the primary key is not supplied in the data,
+        //          we'll assume it uses an identity, and there will never be duplicates
+        // [#10358] TODO: The above should be moved inside InsertQueryImpl
+        // [#7253]  Use native onDuplicateKeyIgnore() support
+        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
+            insert.onDuplicateKeyIgnore(true);
+        }
+
+        // Don't do anything. Let the execution fail
+        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+    }
+
+    /**
+     * The number of stored rows given the row counts of an execution.
+     */
+    private final int stored0(DSLContext ctx, int[] rowcounts, int rows) {
+        int result = 0;
+
+        // [#10358] The MySQL dialect category doesn't return rowcounts
+        //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+        //          1 = INSERT, 2 = UPDATE, instead
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+            result = rows;
+        else
+            for (int rowCount : rowcounts)
+                result += rowCount;
+
+        return result;
+    }
+
+    /**
+     * The number of rows that are executed together in a bulk and batch.
+     */
+    private final int chunkSize() {
+        return (bulk == BULK_AFTER ? bulkAfter : 1) * (batch == BATCH_AFTER ? batchAfter : 1);
+    }
+
+    // -------------------------------------------------------------------------
+    // Parallel execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Read and preprocess rows on the calling thread, and execute chunks of
+     * them on up to {@link #parallelism} connections concurrently.
+     * <p>
+     * A {@link Semaphore} bounds the number of chunks in flight. Once all
+     * permits are taken, the calling thread stops reading rows until a chunk
+     * has been executed, which applies backpressure to the source.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        int size = chunkSize() * (commit == COMMIT_AFTER ? commitAfter : 1);
+        Executor executor = configuration.executorProvider().provide();
+        Semaphore permits = new Semaphore(parallelism);
+        List<Object[]> chunk = new ArrayList<>(size);
+        Object[] row = null;
+
+        try {
+            while (!aborted && iterator.hasNext() && ((row = iterator.next()) != null)) {
+                try {
+                    chunk.add(row0(row));
+                    processed++;
+
+                    if (chunk.size() == size) {
+                        dispatch(executor, permits, chunk, processed - size);
+                        chunk = new ArrayList<>(size);
+                    }
+                }
+                finally {
+                    if (onRowEnd != null)
+                        onRowEnd.row(rowCtx);
+                }
+            }
+
+            if (!aborted && !chunk.isEmpty())
+                dispatch(executor, permits, chunk, processed - chunk.size());
+        }
+        finally {
+
+            // Wait for all dispatched chunks to complete
+            permits.acquireUninterruptibly(parallelism);
+        }
+
+        Throwable t = failure;
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        else if (t instanceof Error)
+            throw (Error) t;
+        else if (t != null)
+            throw new DataAccessException("Error while executing loader chunk", t);
+    }
+
+    private final void dispatch(Executor executor, Semaphore permits, List<Object[]> chunk, int offset) {
+        permits.acquireUninterruptibly();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    connection(ctx -> executeChunk(chunk, offset, ctx));
+                }
+                catch (Throwable t) {
+                    if (failure == null)
+                        failure = t;
+
+                    aborted = true;
+                }
+                finally {
+                    permits.release();
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Execute a chunk of preprocessed rows on a dedicated connection.
+     * <p>
+     * The chunk is split into batches of {@link #chunkSize()} rows, each of
+     * which is executed as in the single threaded mode. In
+     * {@link #COMMIT_AFTER} mode, the whole chunk is committed at the end if
+     * all of its rows were executed, or rolled back before the connection is
+     * released if the load was aborted, by this or any other chunk.
+     */
+    private final void executeChunk(List<Object[]> chunk, int offset, DSLContext ctx) {
+        int size = chunkSize();
+        int chunkStored = 0;
+        int chunkIgnored = 0;
+        int chunkExecuted = 0;
+        List<LoaderError> chunkErrors = null;
+        boolean chunkAborted = false;
+        boolean chunkComplete = false;
+        int from = 0;
+
+        try {
+            for (; from < chunk.size() && !aborted; from += size) {
+                List<Object[]> rows = chunk.subList(from, Math.min(from + size, chunk.size()));
+                BatchBindStep bind = null;
+                InsertQuery<R> insert = null;
+                int bound = 0;
+
+                try {
+                    for (int i = 0; i < rows.size(); i++) {
+                        if (insert == null)
+                            insert = ctx.insertQuery(table);
+                        else
+                            insert.newRecord();
+
+                        addRow0(insert, rows.get(i));
+
+                        // Only complete bulk statements can share a batch
+                        if (batch != BATCH_NONE && (i + 1) % (bulk == BULK_NONE ? 1 : bulkAfter) == 0) {
+                            if (bind == null)
+                                bind = ctx.batch(insert);
+
+                            bind.bind(insert.getBindValues().toArray());
+                            bound = i + 1;
+                            insert = null;
+                        }
+                    }
+
+                    int rowsStored = 0;
+
+                    if (bind != null)
+                        rowsStored += stored0(ctx, bind.execute(), bound);
+                    if (insert != null)
+                        rowsStored += stored0(ctx, new int[] { insert.execute() }, rows.size() - bound);
+
+                    chunkStored += rowsStored;
+                    chunkIgnored += rows.size() - rowsStored;
+                    chunkExecuted++;
+                }
+                catch (DataAccessException e) {
+                    if (chunkErrors == null)
+                        chunkErrors = new ArrayList<>();
+
+                    chunkErrors.add(new LoaderErrorImpl(e, rows.get(rows.size() - 1), offset + from + rows.size() - 1, insert));
+                    chunkIgnored += rows.size();
+
+                    if (onError == ON_ERROR_ABORT)
+                        aborted = chunkAborted = true;
+                }
+            }
+
+            chunkComplete = from >= chunk.size() && !chunkAborted;
+        }
+        finally {
+
+            // Don't return a connection with uncommitted work of an aborted
+            // chunk to the ConnectionProvider
+            if (commit == COMMIT_AFTER && !chunkComplete)
+                ctx.connection(Connection::rollback);
+        }
+
+        if (commit == COMMIT_AFTER) {
+            if (chunkComplete) {
+                ctx.connection(Connection::commit);
+            }
+            else {
+                chunkIgnored += chunkStored;
+                chunkStored = 0;
+            }
+        }
+
+        chunkExecuted(chunkStored, chunkIgnored, chunkExecuted, chunkErrors);
+    }
+
+    private final synchronized void chunkExecuted(int chunkStored, int chunkIgnored, int chunkExecuted, List<LoaderError> chunkErrors) {
+        stored += chunkStored;
+        ignored += chunkIgnored;
+        executed += chunkExecuted;
+
+        if (chunkErrors != null)
+            errors.addAll(chunkErrors);
+    }
+
     private final void commit() {
         configuration.dsl().connection(Connection::commit);
         uncommitted = 0;
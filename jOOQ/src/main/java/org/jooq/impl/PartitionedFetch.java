@@ -0,0 +1,542 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.Tools.acquireDistinct;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.sql.Connection;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.OrderField;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.Convert;
+
+/**
+ * A parallel fetch of a {@link ResultQuery}, partitioned by ranges of a
+ * field's values.
+ * <p>
+ * The query is copied once per partition, with an additional range predicate
+ * on the partition field. The copies are executed concurrently in the
+ * {@link Configuration}'s {@link org.jooq.ExecutorProvider}, each on a
+ * distinct connection from the {@link ConnectionProvider}. Their records are
+ * merged into a single {@link Iterator}, either in the order in which they
+ * arrive, or partition by partition, if the partition field is a
+ * {@link SortField}.
+ *
+ * @author Lukas Eder
+ */
+final class PartitionedFetch<R extends Record> implements Iterator<R> {
+
+    private static final Object                 END                  = new Object();
+    private static final int                    BUFFER               = 1024;
+    private static final long                   POLL_INTERVAL_MILLIS = 100L;
+    private static final Set<SQLDialect>        NULLS_HIGH           = SQLDialect.supportedBy(DERBY, POSTGRES);
+
+    private final Configuration                 configuration;
+    private final List<SelectQueryImpl<R>>      queries;
+    private final List<BlockingQueue<Object>>   queues;
+    private final boolean                       ordered;
+    private final AtomicInteger                 next;
+    private final CompletableFuture<?>          done;
+    private volatile boolean                    cancelled;
+    private volatile Throwable                  failure;
+    private int                                 current;
+    private int                                 remaining;
+    private Object                              record;
+
+    private PartitionedFetch(Configuration configuration, List<SelectQueryImpl<R>> queries, boolean ordered, List<Connection> connections) {
+        int buffer = SettingsTools.fetchLazyPrefetchSize(configuration.settings());
+
+        this.configuration = configuration;
+        this.queries = queries;
+        this.ordered = ordered;
+        this.next = new AtomicInteger();
+        this.remaining = queries.size();
+
+        // Each worker may put one more record after cancellation, which
+        // clears the buffers
+        if (buffer <= 0)
+            buffer = BUFFER;
+
+        if (ordered) {
+            this.queues = new ArrayList<>(queries.size());
+
+            for (int i = 0; i < queries.size(); i++)
+                queues.add(new ArrayBlockingQueue<>(buffer));
+        }
+        else
+            this.queues = Collections.singletonList(new ArrayBlockingQueue<>(Math.max(buffer, connections.size())));
+
+        ConnectionProvider provider = configuration.connectionProvider();
+        Executor executor = configuration.executorProvider().provide();
+        Settings settings = SettingsTools.clone(configuration.settings()).withFetchLazyPrefetchSize(0);
+        CompletableFuture<?>[] workers = new CompletableFuture[connections.size()];
+
+        for (int i = 0; i < workers.length; i++) {
+            Configuration c = configuration.derive(DefaultConnectionProvider.borrowed(connections.get(i))).derive(settings);
+            workers[i] = CompletableFuture.runAsync(() -> work(c), executor);
+        }
+
+        this.done = CompletableFuture.allOf(workers).whenComplete((r, e) -> {
+            for (Connection c : connections)
+                provider.release(c);
+        });
+    }
+
+    /**
+     * Stream a query's records, fetched in parallel partitions.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static final <R extends Record, T> Stream<R> stream(
+        ResultQuery<R> query,
+        OrderField<T> partitionBy,
+        T lowerBound,
+        T upperBound,
+        int parallelism
+    ) {
+        Field<T> field;
+        SortField<T> sort;
+
+        if (partitionBy instanceof SortFieldImpl) {
+            sort = (SortFieldImpl<T>) partitionBy;
+            field = ((SortFieldImpl<T>) partitionBy).getField();
+        }
+        else if (partitionBy instanceof Field) {
+            sort = null;
+            field = (Field<T>) partitionBy;
+        }
+        else
+            throw new IllegalArgumentException("Unsupported partition field: " + partitionBy);
+
+        SelectQueryImpl<R> select = query instanceof SelectImpl
+            ? (SelectQueryImpl<R>) ((SelectImpl) query).getDelegate()
+            : query instanceof SelectQueryImpl
+            ? (SelectQueryImpl<R>) query
+            : null;
+
+        // Queries that can't be partitioned are executed in a single partition
+        if (select == null || !select.partitionable()) {
+            if (sort == null)
+                return query.fetchStream();
+            else if (select != null)
+                return select.partition(noCondition(), sort).fetchStream();
+            else
+                throw new UnsupportedOperationException("Only SELECT queries can be ordered by a partition field: " + query);
+        }
+
+        AtomicReference<PartitionedFetch<R>> r = new AtomicReference<>();
+
+        return StreamSupport.stream(
+            () -> {
+                Configuration configuration = Tools.configuration(select);
+                ConnectionProvider provider = configuration.connectionProvider();
+                List<Connection> connections = acquireDistinct(provider, parallelism);
+                List<SelectQueryImpl<R>> queries;
+
+                try {
+                    if (connections.size() > 1)
+                        queries = partitions(configuration.derive(DefaultConnectionProvider.borrowed(connections.get(0))), select, field, sort, lowerBound, upperBound, parallelism);
+                    else
+                        queries = null;
+                }
+                catch (RuntimeException | Error e) {
+                    for (Connection c : connections)
+                        provider.release(c);
+
+                    throw e;
+                }
+
+                if (queries == null) {
+                    for (Connection c : connections)
+                        provider.release(c);
+
+                    return select.partition(noCondition(), sort).fetchStream().spliterator();
+                }
+
+                PartitionedFetch<R> fetch = new PartitionedFetch<>(configuration, queries, sort != null, connections);
+                r.set(fetch);
+
+                return new ChunkedSpliterator<>(
+                    fetch,
+                    SettingsTools.fetchStreamChunkSize(configuration.settings()),
+                    Spliterator.ORDERED | Spliterator.NONNULL
+                );
+            },
+            Spliterator.ORDERED | Spliterator.NONNULL,
+            false
+        ).onClose(() -> {
+            PartitionedFetch<R> fetch = r.get();
+
+            if (fetch != null)
+                fetch.close();
+        });
+    }
+
+    /**
+     * Split a query into partitions by ranges of a field's values, fetching
+     * the bounds on a given configuration, if they are not supplied.
+     * <p>
+     * The bounds are used only to compute the range boundaries. The first and
+     * the last partitions are unbounded, and an additional partition contains
+     * the <code>NULL</code> values, so the partitions together always produce
+     * the query's complete result.
+     */
+    @SuppressWarnings("unchecked")
+    private static final <R extends Record, T> List<SelectQueryImpl<R>> partitions(
+        Configuration configuration,
+        SelectQueryImpl<R> select,
+        Field<T> field,
+        SortField<T> sort,
+        T lowerBound,
+        T upperBound,
+        int parallelism
+    ) {
+        if (lowerBound == null || upperBound == null) {
+            SelectQueryImpl<Record2<T, T>> query = select.partitionBounds(field);
+            query.attach(configuration);
+            Record2<T, T> bounds = query.fetchOne();
+
+            lowerBound = bounds == null ? null : bounds.value1();
+            upperBound = bounds == null ? null : bounds.value2();
+        }
+
+        List<Condition> conditions = new ArrayList<>();
+
+        if (lowerBound != null && upperBound != null) {
+            List<T> boundaries = boundaries(field.getType(), lowerBound, upperBound, parallelism);
+
+            for (int i = 0; i <= boundaries.size(); i++) {
+                Condition c = noCondition();
+
+                if (i > 0)
+                    c = c.and(field.ge(boundaries.get(i - 1)));
+                if (i < boundaries.size())
+                    c = c.and(field.lt(boundaries.get(i)));
+
+                conditions.add(c);
+            }
+
+            if (sort != null && sort.getOrder() == SortOrder.DESC)
+                Collections.reverse(conditions);
+        }
+        else
+            conditions.add(field.isNotNull());
+
+        if (sort != null && nullsFirst((SortFieldImpl<T>) sort, configuration.dialect()))
+            conditions.add(0, field.isNull());
+        else
+            conditions.add(field.isNull());
+
+        List<SelectQueryImpl<R>> result = new ArrayList<>(conditions.size());
+        for (Condition c : conditions)
+            result.add(select.partition(c, sort));
+
+        return result;
+    }
+
+    /**
+     * Whether a sort field sorts <code>NULL</code> values first, either
+     * explicitly, or by default in a dialect.
+     */
+    private static final boolean nullsFirst(SortFieldImpl<?> sort, SQLDialect dialect) {
+        if (sort.getNullsFirst())
+            return true;
+        else if (sort.getNullsLast())
+            return false;
+
+        // NULL values sort as if they were larger than any other value in
+        // these dialects, and as if they were smaller in all others
+        else
+            return NULLS_HIGH.contains(dialect) == (sort.getOrder() == SortOrder.DESC);
+    }
+
+    /**
+     * The distinct values that split the range between two bounds into
+     * <code>n</code> ranges of equal width, excluding the bounds themselves.
+     */
+    @SuppressWarnings("unchecked")
+    static final <T> List<T> boundaries(Class<T> type, T lowerBound, T upperBound, int n) {
+        BigDecimal lo = ordinal(lowerBound);
+        BigDecimal hi = ordinal(upperBound);
+        BigDecimal width = hi.subtract(lo);
+        List<T> result = new ArrayList<>(n);
+        T previous = lowerBound;
+
+        for (int i = 1; i < n; i++) {
+            BigDecimal o = lo.add(width.multiply(BigDecimal.valueOf(i)).divide(BigDecimal.valueOf(n), MathContext.DECIMAL128));
+            T value = (T) value(type, o);
+
+            if (ordinal(value).compareTo(ordinal(previous)) > 0 && ordinal(value).compareTo(hi) <= 0)
+                result.add(previous = value);
+        }
+
+        return result;
+    }
+
+    /**
+     * The position of a numeric or temporal value on a number line.
+     */
+    private static final BigDecimal ordinal(Object value) {
+        if (value instanceof BigDecimal)
+            return (BigDecimal) value;
+        else if (value instanceof Number)
+            return new BigDecimal(value.toString());
+        else if (value instanceof Timestamp)
+            return nanos(((Timestamp) value).toInstant());
+        else if (value instanceof java.util.Date)
+            return BigDecimal.valueOf(((java.util.Date) value).getTime());
+        else if (value instanceof LocalDate)
+            return BigDecimal.valueOf(((LocalDate) value).toEpochDay());
+        else if (value instanceof LocalTime)
+            return BigDecimal.valueOf(((LocalTime) value).toNanoOfDay());
+        else if (value instanceof LocalDateTime)
+            return nanos(((LocalDateTime) value).toInstant(ZoneOffset.UTC));
+        else if (value instanceof OffsetDateTime)
+            return nanos(((OffsetDateTime) value).toInstant());
+        else if (value instanceof Instant)
+            return nanos((Instant) value);
+        else
+            throw new IllegalArgumentException("Cannot partition values of type " + value.getClass() + ". Only numeric and temporal values are supported");
+    }
+
+    private static final BigDecimal nanos(Instant instant) {
+        return BigDecimal.valueOf(instant.getEpochSecond()).scaleByPowerOfTen(9).add(BigDecimal.valueOf(instant.getNano()));
+    }
+
+    private static final Instant instant(BigDecimal nanos) {
+        BigDecimal[] r = nanos.divideAndRemainder(BigDecimal.ONE.scaleByPowerOfTen(9));
+        return Instant.ofEpochSecond(r[0].longValue(), r[1].longValue());
+    }
+
+    /**
+     * The value at a position on a number line, as returned by
+     * {@link #ordinal(Object)}.
+     */
+    private static final Object value(Class<?> type, BigDecimal ordinal) {
+        if (Number.class.isAssignableFrom(type))
+            return Convert.convert(ordinal, type);
+        else if (type == Timestamp.class)
+            return Timestamp.from(instant(ordinal));
+        else if (type == java.sql.Date.class)
+            return new java.sql.Date(ordinal.longValue());
+        else if (type == Time.class)
+            return new Time(ordinal.longValue());
+        else if (type == java.util.Date.class)
+            return new java.util.Date(ordinal.longValue());
+        else if (type == LocalDate.class)
+            return LocalDate.ofEpochDay(ordinal.longValue());
+        else if (type == LocalTime.class)
+            return LocalTime.ofNanoOfDay(ordinal.longValue());
+        else if (type == LocalDateTime.class)
+            return LocalDateTime.ofInstant(instant(ordinal), ZoneOffset.UTC);
+        else if (type == OffsetDateTime.class)
+            return OffsetDateTime.ofInstant(instant(ordinal), ZoneOffset.UTC);
+        else if (type == Instant.class)
+            return instant(ordinal);
+        else
+            throw new IllegalArgumentException("Cannot partition values of type " + type + ". Only numeric and temporal values are supported");
+    }
+
+    private final BlockingQueue<Object> queue(int partition) {
+        return queues.get(ordered ? partition : 0);
+    }
+
+    /**
+     * Fetch partitions on a connection, until none are left.
+     */
+    private final void work(Configuration c) {
+        for (int p; !cancelled && failure == null && (p = next.getAndIncrement()) < queries.size();) {
+            BlockingQueue<Object> q = queue(p);
+            SelectQueryImpl<R> query = queries.get(p);
+
+            try {
+                query.attach(c);
+
+                try (Cursor<R> cursor = query.fetchLazy()) {
+                    for (R r : cursor) {
+                        if (cancelled)
+                            return;
+
+                        // Records must not remain attached to the partition's connection
+                        if (r.configuration() != null)
+                            r.attach(configuration);
+
+                        q.put(r);
+                    }
+                }
+
+                if (!cancelled)
+                    q.put(END);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                return;
+            }
+            catch (Throwable e) {
+                fail(e);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public final boolean hasNext() {
+        while (record == null) {
+            if (remaining == 0 || cancelled)
+                return false;
+
+            Object o = take(queue(current));
+
+            if (o == END) {
+                remaining--;
+
+                if (ordered)
+                    current++;
+            }
+            else
+                record = o;
+        }
+
+        return true;
+    }
+
+    /**
+     * Take the next element of a queue, or throw the first failure of any
+     * worker.
+     * <p>
+     * Failures are not queued, as a worker can't put them in a full queue
+     * without risking to block forever.
+     */
+    private final Object take(BlockingQueue<Object> q) {
+        try {
+            for (;;) {
+                Object result = q.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+
+                if (result != null)
+                    return result;
+
+                Throwable cause = failure;
+
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                else if (cause instanceof Error)
+                    throw (Error) cause;
+                else if (cause != null)
+                    throw new DataAccessException("Error while fetching partitioned records", cause);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for partitioned records", e);
+        }
+    }
+
+    private final synchronized void fail(Throwable e) {
+        if (failure == null)
+            failure = e;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final R next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        R result = (R) record;
+        record = null;
+        return result;
+    }
+
+    /**
+     * Stop all workers, and wait for them to release their connections.
+     */
+    final void close() {
+        cancelled = true;
+
+        // Unblock workers that are waiting for buffer capacity
+        for (BlockingQueue<Object> q : queues)
+            q.clear();
+
+        try {
+            done.join();
+        }
+        catch (RuntimeException ignore) {}
+    }
+}
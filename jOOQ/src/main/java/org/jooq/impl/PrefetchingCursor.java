@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.lang.ref.Reference;
+import java.sql.ResultSet;
+import java.util.Iterator;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A {@link Cursor} whose records are prefetched by a {@link CursorImpl} in a
+ * producer thread.
+ * <p>
+ * The producer thread references the {@link CursorImpl}, but not this cursor,
+ * nor any of its iterators or streams. If this cursor is abandoned without
+ * being closed, it can thus be garbage collected, in case of which the
+ * {@link CursorImpl} is closed by a {@link Cleaner}, which stops the producer
+ * and releases its JDBC resources.
+ *
+ * @author Lukas Eder
+ */
+final class PrefetchingCursor<R extends Record> extends AbstractCursor<R> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final CursorImpl<R>  cursor;
+    private final Cleanable      cleanable;
+
+    PrefetchingCursor(CursorImpl<R> cursor) {
+        super(cursor.configuration, cursor.fields);
+
+        this.cursor = cursor;
+        this.cleanable = CLEANER.register(this, cursor::close);
+    }
+
+    @Override
+    public final Iterator<R> iterator() {
+        return new PrefetchingIterator<>(this, cursor.iterator());
+    }
+
+    @Override
+    public final Result<R> fetchNext(int number) {
+        try {
+            return cursor.fetchNext(number);
+        }
+        finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    @Override
+    public final void close() {
+        cleanable.clean();
+    }
+
+    @Override
+    public final boolean isClosed() {
+        return cursor.isClosed();
+    }
+
+    @Override
+    public final ResultSet resultSet() {
+        return cursor.resultSet();
+    }
+
+    /**
+     * An iterator that keeps its cursor reachable while it is being used.
+     */
+    private static final class PrefetchingIterator<R extends Record> implements Iterator<R> {
+
+        private final PrefetchingCursor<R> cursor;
+        private final Iterator<R>          delegate;
+
+        PrefetchingIterator(PrefetchingCursor<R> cursor, Iterator<R> delegate) {
+            this.cursor = cursor;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            try {
+                return delegate.hasNext();
+            }
+            finally {
+                Reference.reachabilityFence(cursor);
+            }
+        }
+
+        @Override
+        public final R next() {
+            try {
+                return delegate.next();
+            }
+            finally {
+                Reference.reachabilityFence(cursor);
+            }
+        }
+    }
+}
@@ -60,11 +60,13 @@ import org.jooq.tools.jdbc.DefaultConnection;
 final class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final StatementCache     statementCache;
 
-    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, StatementCache statementCache) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.statementCache = statementCache;
     }
 
     // ------------------------------------------------------------------------
@@ -106,34 +108,46 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql)
+            : getDelegate().prepareStatement(sql));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql, autoGeneratedKeys)
+            : getDelegate().prepareStatement(sql, autoGeneratedKeys));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
         throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql, resultSetType, resultSetConcurrency)
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
         int resultSetHoldability) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability)
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnIndexes));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql, columnIndexes)
+            : getDelegate().prepareStatement(sql, columnIndexes));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnNames));
+        return new ProviderEnabledPreparedStatement(this, statementCache != null
+            ? statementCache.prepareStatement(sql, columnNames)
+            : getDelegate().prepareStatement(sql, columnNames));
     }
 
     // ------------------------------------------------------------------------
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A blocking {@link Iterator} view of a {@link Flow.Publisher}.
+ * <p>
+ * The publisher is subscribed to lazily, on the first call to
+ * {@link #hasNext()}. At most <code>bufferSize</code> items are requested
+ * ahead of consumption, which provides backpressure to the publisher if the
+ * consumer (e.g. a {@link org.jooq.Loader}) is slower than the producer.
+ *
+ * @author Lukas Eder
+ */
+final class PublisherIterator<T> implements Iterator<T> {
+
+    private static final Object              COMPLETE = new Object();
+
+    final Flow.Publisher<? extends T>        publisher;
+    final int                                bufferSize;
+    final int                                refill;
+    final BlockingQueue<Object>              queue;
+    volatile Flow.Subscription               subscription;
+    boolean                                  subscribed;
+    boolean                                  cancelled;
+    int                                      consumed;
+    Object                                   next;
+
+    PublisherIterator(Flow.Publisher<? extends T> publisher, int bufferSize) {
+        this.publisher = publisher;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.refill = Math.max(1, this.bufferSize / 2);
+        this.queue = new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null) {
+            if (cancelled)
+                return false;
+
+            if (!subscribed) {
+                subscribed = true;
+                publisher.subscribe(new Subscriber());
+            }
+
+            try {
+                next = queue.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new DataAccessException("Interrupted while waiting for publisher", e);
+            }
+        }
+
+        if (next instanceof Failure) {
+            Throwable cause = ((Failure) next).cause;
+
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            else
+                throw new DataAccessException("Error while consuming publisher", cause);
+        }
+
+        return next != COMPLETE;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        T result = (T) next;
+        next = null;
+
+        // Replenish demand once half of the buffer has been consumed
+        if (++consumed == refill) {
+            consumed = 0;
+            subscription.request(refill);
+        }
+
+        return result;
+    }
+
+    /**
+     * Stop consuming the publisher, e.g. when the consumer aborts early.
+     */
+    final void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+
+            Flow.Subscription s = subscription;
+            if (s != null)
+                s.cancel();
+        }
+    }
+
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private final class Subscriber implements Flow.Subscriber<T> {
+
+        @Override
+        public final void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            s.request(bufferSize);
+        }
+
+        @Override
+        public final void onNext(T item) {
+            queue.add(item == null ? new Failure(new NullPointerException("Publisher emitted null")) : item);
+        }
+
+        @Override
+        public final void onError(Throwable t) {
+            queue.add(new Failure(t));
+        }
+
+        @Override
+        public final void onComplete() {
+            queue.add(COMPLETE);
+        }
+    }
+}
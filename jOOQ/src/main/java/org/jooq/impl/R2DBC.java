@@ -325,8 +325,7 @@ final class R2DBC {
                             ctx.index(i + 1);
                             ctx.field((Field) fields[i]);
                             fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                            record.values[i] = ctx.value();
-                            record.originals[i] = ctx.value();
+                            record.set0(i, ctx.value(), ctx.value());
                         }
 
                         return record;
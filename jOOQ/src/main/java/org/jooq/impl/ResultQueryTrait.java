@@ -51,6 +51,8 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -63,22 +65,32 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.BinaryFormat;
+import org.jooq.CSVFormat;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
 import org.jooq.DataType;
 import org.jooq.Field;
+import org.jooq.Fields;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
+import org.jooq.OrderField;
 import org.jooq.QueryPartInternal;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -112,6 +124,7 @@ import org.jooq.Results;
 import org.jooq.Row;
 import org.jooq.Select;
 import org.jooq.Table;
+import org.jooq.XMLFormat;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.R2DBC.BlockingRecordSubscription;
@@ -287,6 +300,55 @@ interface ResultQueryTrait<R extends Record> extends QueryPartInternal, ResultQu
         return fetchLazy();
     }
 
+    @Override
+    default void formatCSV(Writer writer, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(writer, format);
+        }
+    }
+
+    @Override
+    default void formatCSV(OutputStream stream, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(stream, format);
+        }
+    }
+
+    @Override
+    default void formatJSON(Writer writer, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(writer, format);
+        }
+    }
+
+    @Override
+    default void formatJSON(OutputStream stream, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(stream, format);
+        }
+    }
+
+    @Override
+    default void formatXML(Writer writer, XMLFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatXML(writer, format);
+        }
+    }
+
+    @Override
+    default void formatXML(OutputStream stream, XMLFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatXML(stream, format);
+        }
+    }
+
+    @Override
+    default void formatBinary(OutputStream stream, BinaryFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatBinary(stream, format);
+        }
+    }
+
     @Override
     default ResultSet fetchResultSet() {
         if (fetchIntermediateResult(Tools.configuration(this)))
@@ -334,6 +396,16 @@ interface ResultQueryTrait<R extends Record> extends QueryPartInternal, ResultQu
         });
     }
 
+    @Override
+    default <T> Stream<R> fetchStreamParallel(OrderField<T> partitionBy, int parallelism) {
+        return fetchStreamParallel(partitionBy, null, null, parallelism);
+    }
+
+    @Override
+    default <T> Stream<R> fetchStreamParallel(OrderField<T> partitionBy, T lowerBound, T upperBound, int parallelism) {
+        return PartitionedFetch.stream(this, partitionBy, lowerBound, upperBound, parallelism);
+    }
+
     @Override
     default <E> Stream<E> fetchStreamInto(Class<? extends E> type) {
         return fetchStream().map(mapper(Tools.configuration(this), type));
@@ -1354,6 +1426,136 @@ interface ResultQueryTrait<R extends Record> extends QueryPartInternal, ResultQu
         return collect(Records.intoArray(converter.toType(), mapper(field, converter)));
     }
 
+    @Override
+    default int[] fetchIntArray(int fieldIndex) {
+        try (IntStream s = fetchIntStream(fieldIndex)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default int[] fetchIntArray(Field<?> field) {
+        try (IntStream s = fetchIntStream(field)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default long[] fetchLongArray(int fieldIndex) {
+        try (LongStream s = fetchLongStream(fieldIndex)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default long[] fetchLongArray(Field<?> field) {
+        try (LongStream s = fetchLongStream(field)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default double[] fetchDoubleArray(int fieldIndex) {
+        try (DoubleStream s = fetchDoubleStream(fieldIndex)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default double[] fetchDoubleArray(Field<?> field) {
+        try (DoubleStream s = fetchDoubleStream(field)) {
+            return s.toArray();
+        }
+    }
+
+    @Override
+    default IntStream fetchIntStream(int fieldIndex) {
+        return fetchIntStream0(fields -> indexOrFail(fields, fieldIndex));
+    }
+
+    @Override
+    default IntStream fetchIntStream(Field<?> field) {
+        return fetchIntStream0(fields -> indexOrFail(fields, field));
+    }
+
+    default IntStream fetchIntStream0(ToIntFunction<? super Fields> fieldIndex) {
+        AtomicReference<AbstractCursor<R>> r = new AtomicReference<>();
+
+        return StreamSupport.intStream(
+            () -> {
+                AbstractCursor<R> c = fetchLazyPrimitive();
+                r.set(c);
+                return Spliterators.spliteratorUnknownSize(c.intIterator(fieldIndex.applyAsInt(c.fields)), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+            },
+            Spliterator.IMMUTABLE | Spliterator.ORDERED,
+            false
+        ).onClose(() -> {
+            safeClose(r.get());
+        });
+    }
+
+    @Override
+    default LongStream fetchLongStream(int fieldIndex) {
+        return fetchLongStream0(fields -> indexOrFail(fields, fieldIndex));
+    }
+
+    @Override
+    default LongStream fetchLongStream(Field<?> field) {
+        return fetchLongStream0(fields -> indexOrFail(fields, field));
+    }
+
+    default LongStream fetchLongStream0(ToIntFunction<? super Fields> fieldIndex) {
+        AtomicReference<AbstractCursor<R>> r = new AtomicReference<>();
+
+        return StreamSupport.longStream(
+            () -> {
+                AbstractCursor<R> c = fetchLazyPrimitive();
+                r.set(c);
+                return Spliterators.spliteratorUnknownSize(c.longIterator(fieldIndex.applyAsInt(c.fields)), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+            },
+            Spliterator.IMMUTABLE | Spliterator.ORDERED,
+            false
+        ).onClose(() -> {
+            safeClose(r.get());
+        });
+    }
+
+    @Override
+    default DoubleStream fetchDoubleStream(int fieldIndex) {
+        return fetchDoubleStream0(fields -> indexOrFail(fields, fieldIndex));
+    }
+
+    @Override
+    default DoubleStream fetchDoubleStream(Field<?> field) {
+        return fetchDoubleStream0(fields -> indexOrFail(fields, field));
+    }
+
+    default DoubleStream fetchDoubleStream0(ToIntFunction<? super Fields> fieldIndex) {
+        AtomicReference<AbstractCursor<R>> r = new AtomicReference<>();
+
+        return StreamSupport.doubleStream(
+            () -> {
+                AbstractCursor<R> c = fetchLazyPrimitive();
+                r.set(c);
+                return Spliterators.spliteratorUnknownSize(c.doubleIterator(fieldIndex.applyAsInt(c.fields)), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+            },
+            Spliterator.IMMUTABLE | Spliterator.ORDERED,
+            false
+        ).onClose(() -> {
+            safeClose(r.get());
+        });
+    }
+
+    default AbstractCursor<R> fetchLazyPrimitive() {
+
+        // Primitive values are read directly from the JDBC ResultSet, unless
+        // ExecuteListeners should see an intermediate Result
+        if (fetchIntermediateResult(Tools.configuration(this)))
+            return new ResultAsCursor<>(fetch());
+        else
+            return (AbstractCursor<R>) fetchLazy();
+    }
+
     @Override
     default <E> Set<E> fetchSet(RecordMapper<? super R, E> mapper) {
         return collect(intoSet(mapper));
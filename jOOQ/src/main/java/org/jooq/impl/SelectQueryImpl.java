@@ -263,6 +263,7 @@ import org.jooq.Param;
 import org.jooq.QualifiedAsterisk;
 import org.jooq.QueryPart;
 import org.jooq.Record;
+import org.jooq.Record2;
 import org.jooq.Row;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
@@ -596,6 +597,76 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return finisher.apply(copyTo(CopyClause.END, false, new SelectQueryImpl<>(configuration(), with)));
     }
 
+    /**
+     * Whether this query produces one row per row of its <code>FROM</code>
+     * clause that satisfies its <code>WHERE</code> clause, such that its
+     * result can be partitioned by additional predicates.
+     * <p>
+     * Selected expressions may contain aggregate or window functions at any
+     * depth, e.g. <code>COALESCE(SUM(x), 0)</code>, so only plain column
+     * references, asterisks, and bind values are considered safe.
+     */
+    final boolean partitionable() {
+        if (distinct
+                || distinctOn != null
+                || grouping
+                || groupBy != null
+                || having.hasWhere()
+                || window != null
+                || qualify.hasWhere()
+                || !seek.isEmpty()
+                || limit.isApplicable()
+                || !union.isEmpty())
+            return false;
+
+        for (SelectFieldOrAsterisk f : select)
+            if (!partitionable(f))
+                return false;
+
+        return true;
+    }
+
+    private static final boolean partitionable(SelectFieldOrAsterisk f) {
+        if (f instanceof Field)
+            f = Tools.unalias((Field<?>) f);
+
+        return f instanceof TableFieldImpl
+            || f instanceof Param
+            || f instanceof Asterisk
+            || f instanceof QualifiedAsterisk;
+    }
+
+    /**
+     * A copy of this query, restricted to a partition of its result, and
+     * optionally ordered by the partition's sort field first.
+     */
+    final SelectQueryImpl<R> partition(Condition partition, SortField<?> sort) {
+        return copy(c -> {
+            c.addConditions(partition);
+
+            if (sort != null) {
+                List<SortField<?>> o = new ArrayList<>(c.orderBy);
+                c.orderBy.clear();
+                c.orderBy.add(sort);
+                c.orderBy.addAll(o);
+            }
+
+            return c;
+        });
+    }
+
+    /**
+     * A query for the lowest and highest value of a field among the rows of
+     * this query's <code>FROM</code> clause that satisfy its
+     * <code>WHERE</code> clause.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    final <T> SelectQueryImpl<Record2<T, T>> partitionBounds(Field<T> field) {
+        SelectQueryImpl<Record2<T, T>> result = (SelectQueryImpl) copyTo(CopyClause.WHERE, false, new SelectQueryImpl<>(configuration(), with));
+        result.addSelect(DSL.min(field), DSL.max(field));
+        return result;
+    }
+
 
 
 
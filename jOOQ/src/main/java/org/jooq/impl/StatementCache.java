@@ -0,0 +1,364 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.preparedStatementCacheSize;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A cache of {@link PreparedStatement} instances of a single JDBC
+ * {@link Connection}.
+ * <p>
+ * Statements are cached only for connections that outlive a single execution,
+ * i.e. those of a {@link DefaultConnectionProvider}, which includes the
+ * connections of transactions, but excludes connections that jOOQ borrows
+ * internally from other providers, e.g. for parallel batches. Other {@link ConnectionProvider}
+ * implementations are free to return their connections to a pool after each
+ * execution, in case of which statements cannot be kept open.
+ * <p>
+ * A statement is removed from the cache while it is in use, and returned to
+ * the cache when it is closed. This way, the same statement is never shared
+ * by several executions, e.g. when a lazy {@link org.jooq.Cursor} is still
+ * open while the same SQL is executed again. The least recently used idle
+ * statements are closed when the cache exceeds its capacity, and all idle
+ * statements are closed when the owning {@link DefaultConnectionProvider}
+ * releases its connection.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache {
+
+    private static final JooqLogger          log = JooqLogger.getLogger(StatementCache.class);
+
+    final Connection                         connection;
+    private final Map<Key, IdleStatement>    idle;
+    private volatile int                     capacity;
+    private boolean                          closed;
+
+    final AtomicLong                         hits;
+    final AtomicLong                         misses;
+    final AtomicLong                         evictions;
+
+    StatementCache(Connection connection) {
+        this.connection = connection;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    /**
+     * Get the statement cache of a {@link ConnectionProvider}'s connection, or
+     * <code>null</code> if statements should not be cached.
+     */
+    static final StatementCache of(ConnectionProvider provider, Connection connection, Settings settings) {
+        int size = preparedStatementCacheSize(settings);
+
+        if (size <= 0 || !(provider instanceof DefaultConnectionProvider))
+            return null;
+
+        StatementCache result = ((DefaultConnectionProvider) provider).statementCache(connection);
+        if (result != null)
+            result.capacity = size;
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Cache API
+    // -------------------------------------------------------------------------
+
+    final PreparedStatement prepareStatement(String sql) throws SQLException {
+        Key key = new Key(sql, -1, -1, -1, -1, null, null);
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql));
+    }
+
+    final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, -1, -1, -1, autoGeneratedKeys, null, null);
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql, autoGeneratedKeys));
+    }
+
+    final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        Key key = new Key(sql, resultSetType, resultSetConcurrency, -1, -1, null, null);
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
+    }
+
+    final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        Key key = new Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, -1, null, null);
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        Key key = new Key(sql, -1, -1, -1, -1, columnIndexes.clone(), null);
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql, columnIndexes));
+    }
+
+    final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        Key key = new Key(sql, -1, -1, -1, -1, null, columnNames.clone());
+        PreparedStatement result = checkout(key);
+        return result != null ? result : wrap(key, connection.prepareStatement(sql, columnNames));
+    }
+
+    /**
+     * Close all idle statements and stop caching statements that are still in
+     * use.
+     */
+    final void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+
+            closed = true;
+
+            for (IdleStatement s : idle.values())
+                JDBCUtils.safeClose(s.statement);
+
+            idle.clear();
+        }
+
+        if (log.isDebugEnabled())
+            log.debug("Statement cache closed", "hits: " + hits + ", misses: " + misses + ", evictions: " + evictions);
+    }
+
+    private final PreparedStatement checkout(Key key) throws SQLException {
+        IdleStatement s;
+
+        synchronized (this) {
+            s = closed ? null : idle.remove(key);
+        }
+
+        // The statement may have been closed along with its connection
+        if (s != null && !s.statement.isClosed()) {
+            hits.incrementAndGet();
+            return new CachedPreparedStatement(key, s);
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private final PreparedStatement wrap(Key key, PreparedStatement statement) throws SQLException {
+        return new CachedPreparedStatement(key, new IdleStatement(statement));
+    }
+
+    private final void checkin(Key key, IdleStatement s) {
+
+        // Reset the state that jOOQ may have changed on the statement
+        try {
+            PreparedStatement stmt = s.statement;
+
+            if (stmt.isClosed())
+                return;
+
+            // Rows that were added to a batch that was never executed, e.g.
+            // due to an exception, must not be executed with the next batch
+            stmt.clearBatch();
+            stmt.clearParameters();
+            stmt.clearWarnings();
+
+            if (stmt.isPoolable() != s.poolable)
+                stmt.setPoolable(s.poolable);
+
+            if (stmt.getFetchSize() != s.fetchSize)
+                stmt.setFetchSize(s.fetchSize);
+            if (stmt.getMaxRows() != s.maxRows)
+                stmt.setMaxRows(s.maxRows);
+            if (stmt.getQueryTimeout() != s.queryTimeout)
+                stmt.setQueryTimeout(s.queryTimeout);
+        }
+        catch (SQLException e) {
+            log.debug("Statement cache", "Cannot reset statement. Closing it instead", e);
+            JDBCUtils.safeClose(s.statement);
+            return;
+        }
+
+        IdleStatement discarded = null;
+
+        synchronized (this) {
+            if (closed || idle.containsKey(key)) {
+                discarded = s;
+            }
+            else {
+                idle.put(key, s);
+
+                if (idle.size() > capacity) {
+                    Iterator<IdleStatement> it = idle.values().iterator();
+                    discarded = it.next();
+                    it.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+
+        if (discarded != null)
+            JDBCUtils.safeClose(discarded.statement);
+    }
+
+    /**
+     * A cached statement along with the state it was created with.
+     */
+    private static final class IdleStatement {
+        final PreparedStatement statement;
+        final int               fetchSize;
+        final int               maxRows;
+        final int               queryTimeout;
+        final boolean           poolable;
+
+        IdleStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.queryTimeout = statement.getQueryTimeout();
+            this.poolable = statement.isPoolable();
+        }
+    }
+
+    /**
+     * A statement that is returned to its cache when closed.
+     */
+    private final class CachedPreparedStatement extends DefaultPreparedStatement {
+        private final Key           key;
+        private final IdleStatement idle;
+        private boolean             closed;
+
+        CachedPreparedStatement(Key key, IdleStatement idle) {
+            super(idle.statement);
+
+            this.key = key;
+            this.idle = idle;
+        }
+
+        @Override
+        public final void close() throws SQLException {
+            if (!closed) {
+                closed = true;
+                checkin(key, idle);
+            }
+        }
+
+        @Override
+        public final boolean isClosed() throws SQLException {
+            return closed || super.isClosed();
+        }
+    }
+
+    /**
+     * The cache key of a statement, consisting of its SQL string and all the
+     * flags it was prepared with.
+     */
+    private static final class Key {
+        final String   sql;
+        final int      resultSetType;
+        final int      resultSetConcurrency;
+        final int      resultSetHoldability;
+        final int      autoGeneratedKeys;
+        final int[]    columnIndexes;
+        final String[] columnNames;
+
+        Key(
+            String sql,
+            int resultSetType,
+            int resultSetConcurrency,
+            int resultSetHoldability,
+            int autoGeneratedKeys,
+            int[] columnIndexes,
+            String[] columnNames
+        ) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.columnIndexes = columnIndexes;
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sql.hashCode();
+            result = 31 * result + resultSetType;
+            result = 31 * result + resultSetConcurrency;
+            result = 31 * result + resultSetHoldability;
+            result = 31 * result + autoGeneratedKeys;
+            result = 31 * result + Arrays.hashCode(columnIndexes);
+            result = 31 * result + Arrays.hashCode(columnNames);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return sql.equals(other.sql)
+                && resultSetType == other.resultSetType
+                && resultSetConcurrency == other.resultSetConcurrency
+                && resultSetHoldability == other.resultSetHoldability
+                && autoGeneratedKeys == other.autoGeneratedKeys
+                && Arrays.equals(columnIndexes, other.columnIndexes)
+                && Arrays.equals(columnNames, other.columnNames);
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+}
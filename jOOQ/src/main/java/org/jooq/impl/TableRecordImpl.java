@@ -54,6 +54,7 @@ import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
+import static org.jooq.impl.Tools.DataKey.DATA_BATCH_QUERY_COLLECTOR;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
@@ -69,6 +70,7 @@ import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.InsertQuery;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.StoreQuery;
@@ -77,6 +79,7 @@ import org.jooq.TableField;
 import org.jooq.TableRecord;
 import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
+import org.jooq.impl.BatchCRUD.QueryCollector;
 import org.jooq.tools.JooqLogger;
 
 /**
@@ -172,6 +175,10 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         // [#1002] Consider also identity columns of non-updatable records
         // [#1537] Avoid refreshing identity columns on batch inserts
         Collection<Field<?>> key = setReturningIfNeeded(insert);
+
+        if (collected(insert))
+            return 0;
+
         int result = insert.execute();
 
         if (result > 0) {
@@ -190,6 +197,21 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         return result;
     }
 
+    /**
+     * Hand a store query to a {@link BatchCRUD} instead of executing it, if
+     * this record is being batch stored.
+     */
+    final boolean collected(Query query) {
+        Configuration configuration = configuration();
+        QueryCollector collector = configuration == null ? null : (QueryCollector) configuration.data(DATA_BATCH_QUERY_COLLECTOR);
+
+        if (collector == null)
+            return false;
+
+        collector.add(this, query);
+        return true;
+    }
+
     final void getReturningIfNeeded(StoreQuery<R> query, Collection<Field<?>> key) {
         if (key != null && !key.isEmpty()) {
             R record = query.getReturnedRecord();
@@ -199,8 +221,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
                     int index = indexOrFail(fieldsRow(), field);
                     Object value = record.get(field);
 
-                    values[index] = value;
-                    originals[index] = value;
+                    set0(index, value, value);
                 }
             }
 
@@ -245,18 +266,16 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(version);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            set0(fieldIndex, value, value);
+            changed0(fieldIndex, false);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(timestamp);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            set0(fieldIndex, value, value);
+            changed0(fieldIndex, false);
         }
     }
 
@@ -239,6 +239,7 @@ import org.jooq.Clause;
 import org.jooq.CommonTableExpression;
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.Context;
 import org.jooq.Converter;
 import org.jooq.ConverterProvider;
@@ -625,7 +626,13 @@ final class Tools {
          * [#10540] Aliases to be applied to the current <code>SELECT</code>
          * statement.
          */
-        DATA_SELECT_ALIASES
+        DATA_SELECT_ALIASES,
+
+        /**
+         * The {@link BatchCRUD} collecting store queries of records instead of
+         * executing them.
+         */
+        DATA_BATCH_QUERY_COLLECTOR
     }
 
     /**
@@ -2901,6 +2908,45 @@ final class Tools {
             return new DataAccessException("SQL [" + sql + "]; Unspecified RuntimeException");
     }
 
+    /**
+     * Acquire up to <code>n</code> distinct connections from a
+     * {@link ConnectionProvider}, all of which must be released by the caller.
+     * <p>
+     * Within transactions, or with a single connection, the same connection is
+     * provided repeatedly, and it can't be shared, so fewer connections are
+     * returned.
+     */
+    static final List<Connection> acquireDistinct(ConnectionProvider provider, int n) {
+        List<Connection> result = new ArrayList<>(n);
+
+        try {
+            acquire:
+            for (int i = 0; i < n; i++) {
+                Connection connection = provider.acquire();
+
+                if (connection == null)
+                    break;
+
+                for (Connection c : result) {
+                    if (c == connection) {
+                        provider.release(connection);
+                        break acquire;
+                    }
+                }
+
+                result.add(connection);
+            }
+        }
+        catch (RuntimeException | Error e) {
+            for (Connection c : result)
+                provider.release(c);
+
+            throw e;
+        }
+
+        return result;
+    }
+
     /**
      * Safely close a statement
      */
@@ -2978,9 +3024,12 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
-        target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+        Object value = source.get(sourceIndex);
+        Object original = source.original(sourceIndex);
+        T converted = targetType.convert(value);
+
+        target.set0(targetIndex, converted, original == value ? converted : targetType.convert(original));
+        target.changed0(targetIndex, source.changed(sourceIndex));
     }
 
     /**
@@ -328,6 +328,10 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         // [#1859]  Specify the returning clause if needed
         // [#10051] See if we can return keys also on MERGE
         Collection<Field<?>> key = merge ? null : setReturningIfNeeded(query);
+
+        if (collected(query))
+            return 0;
+
         int result = query.execute();
         checkIfChanged(result, version, timestamp);
 
@@ -374,6 +378,9 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
                 else if (isExecuteWithOptimisticLockingIncludeUnversioned())
                     checkIfChanged(keys);
 
+            if (collected(delete1))
+                return 0;
+
             int result = delete1.execute();
             checkIfChanged(result, null, null);
             return result;
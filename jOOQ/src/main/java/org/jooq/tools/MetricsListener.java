@@ -0,0 +1,801 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.impl.DefaultExecuteListener;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link ExecuteListener} that records execution metrics per SQL string.
+ * <p>
+ * For each distinct normalised SQL string, this listener records latency histograms of the {@link Phase#RENDER},
+ * {@link Phase#PREPARE}, {@link Phase#BIND}, {@link Phase#EXECUTE} and
+ * {@link Phase#FETCH} phases, as well as of the {@link Phase#TOTAL} execution,
+ * and counters of executions, exceptions, fetched and affected rows, and
+ * batch sizes. Metrics can be pulled at any time using {@link #snapshot()}.
+ * <p>
+ * Unlike {@link StopWatchListener}, this listener is meant to be shared by all
+ * executions, e.g. by a single {@link org.jooq.ExecuteListenerProvider}:
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * MetricsListener metrics = new MetricsListener();
+ * configuration.set(metrics);
+ * </code>
+ * </pre>
+ * <p>
+ * Recording is lock free. Histogram buckets are {@link LongAdder} instances,
+ * which are created lazily, and which stripe their counts across threads under
+ * contention. Histograms have logarithmic buckets with 8 linear sub buckets
+ * each, so recorded values are accurate to within 12.5%.
+ * <p>
+ * SQL strings are normalised by {@link #normalise(String)}, such that
+ * statements that differ only in their inlined values, or in the length of
+ * their bind variable lists (e.g. of <code>IN</code> predicates), share their
+ * metrics. In order to bound memory consumption, at most
+ * <code>maxStatements</code> distinct normalised SQL strings are tracked.
+ * Further SQL strings are recorded as {@link #OTHER}. Batches of several
+ * distinct SQL strings are recorded as {@link #BATCH}.
+ * <p>
+ * Except for the first execution of each SQL string, recording doesn't
+ * allocate any objects. The state of an execution is reused by subsequent
+ * executions on the same thread.
+ *
+ * @author Lukas Eder
+ */
+public class MetricsListener extends DefaultExecuteListener {
+
+    /**
+     * The key of metrics of SQL strings exceeding <code>maxStatements</code>.
+     */
+    public static final String                     OTHER  = "<other>";
+
+    /**
+     * The key of metrics of batches of several distinct SQL strings.
+     */
+    public static final String                     BATCH  = "<batch>";
+
+    private static final Phase[]                   PHASES = Phase.values();
+
+    private final int                              maxStatements;
+    private final Map<String, StatementRecorder>   statements;
+
+    /**
+     * The recorders of raw SQL strings, which avoids normalising them again.
+     */
+    private final Map<String, StatementRecorder>   aliases;
+    private final ThreadLocal<Execution>           idle;
+
+    public MetricsListener() {
+        this(1000);
+    }
+
+    public MetricsListener(int maxStatements) {
+        if (maxStatements <= 0)
+            throw new IllegalArgumentException("maxStatements must be positive: " + maxStatements);
+
+        this.maxStatements = maxStatements;
+        this.statements = new ConcurrentHashMap<>();
+        this.aliases = new ConcurrentHashMap<>();
+        this.idle = new ThreadLocal<>();
+    }
+
+    /**
+     * The phases of an execution.
+     */
+    public enum Phase {
+
+        /**
+         * Rendering SQL, from {@link ExecuteListener#renderStart(ExecuteContext)}
+         * to {@link ExecuteListener#renderEnd(ExecuteContext)}.
+         */
+        RENDER,
+
+        /**
+         * Preparing the statement, from
+         * {@link ExecuteListener#prepareStart(ExecuteContext)} to
+         * {@link ExecuteListener#prepareEnd(ExecuteContext)}.
+         */
+        PREPARE,
+
+        /**
+         * Binding variables, from
+         * {@link ExecuteListener#bindStart(ExecuteContext)} to
+         * {@link ExecuteListener#bindEnd(ExecuteContext)}, summed up over all
+         * bind value sets of a batch.
+         */
+        BIND,
+
+        /**
+         * Executing the statement, from
+         * {@link ExecuteListener#executeStart(ExecuteContext)} to
+         * {@link ExecuteListener#executeEnd(ExecuteContext)}.
+         */
+        EXECUTE,
+
+        /**
+         * Fetching results, from
+         * {@link ExecuteListener#fetchStart(ExecuteContext)} to
+         * {@link ExecuteListener#fetchEnd(ExecuteContext)}, including client
+         * code consuming lazy results.
+         */
+        FETCH,
+
+        /**
+         * The entire execution, from
+         * {@link ExecuteListener#start(ExecuteContext)} to
+         * {@link ExecuteListener#end(ExecuteContext)}.
+         */
+        TOTAL
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Pull API
+    // -------------------------------------------------------------------------
+
+    /**
+     * A snapshot of the metrics of all SQL strings.
+     */
+    @NotNull
+    public Map<String, StatementMetrics> snapshot() {
+        Map<String, StatementMetrics> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, StatementRecorder> e : statements.entrySet())
+            result.put(e.getKey(), e.getValue().snapshot(e.getKey()));
+
+        return unmodifiableMap(result);
+    }
+
+    /**
+     * A snapshot of the metrics of a SQL string, or <code>null</code> if no
+     * metrics have been recorded for it.
+     * <p>
+     * The SQL string may be a raw or a normalised SQL string.
+     */
+    @Nullable
+    public StatementMetrics snapshot(String sql) {
+        String normalised = normalise(sql);
+        StatementRecorder recorder = statements.get(normalised);
+        return recorder == null ? null : recorder.snapshot(normalised);
+    }
+
+    /**
+     * Discard all metrics recorded so far.
+     */
+    public void reset() {
+        aliases.clear();
+        statements.clear();
+    }
+
+    /**
+     * A snapshot of the metrics of a SQL string.
+     */
+    public static final class StatementMetrics {
+        private final String                    sql;
+        private final long                      executions;
+        private final long                      exceptions;
+        private final long                      rowsFetched;
+        private final long                      rowsAffected;
+        private final long                      batches;
+        private final long                      batchedStatements;
+        private final Map<Phase, Histogram>     histograms;
+
+        StatementMetrics(
+            String sql,
+            long executions,
+            long exceptions,
+            long rowsFetched,
+            long rowsAffected,
+            long batches,
+            long batchedStatements,
+            Map<Phase, Histogram> histograms
+        ) {
+            this.sql = sql;
+            this.executions = executions;
+            this.exceptions = exceptions;
+            this.rowsFetched = rowsFetched;
+            this.rowsAffected = rowsAffected;
+            this.batches = batches;
+            this.batchedStatements = batchedStatements;
+            this.histograms = histograms;
+        }
+
+        /**
+         * The SQL string, {@link MetricsListener#OTHER}, or
+         * {@link MetricsListener#BATCH}.
+         */
+        @NotNull
+        public String sql() {
+            return sql;
+        }
+
+        /**
+         * The number of executions.
+         */
+        public long executions() {
+            return executions;
+        }
+
+        /**
+         * The number of executions that failed with an exception.
+         */
+        public long exceptions() {
+            return exceptions;
+        }
+
+        /**
+         * The number of records fetched.
+         */
+        public long rowsFetched() {
+            return rowsFetched;
+        }
+
+        /**
+         * The number of rows affected, as far as reported by the JDBC driver.
+         */
+        public long rowsAffected() {
+            return rowsAffected;
+        }
+
+        /**
+         * The number of batch executions.
+         */
+        public long batches() {
+            return batches;
+        }
+
+        /**
+         * The number of statements or bind value sets executed in batches.
+         */
+        public long batchedStatements() {
+            return batchedStatements;
+        }
+
+        /**
+         * The latency histogram of a phase, in nanoseconds.
+         */
+        @NotNull
+        public Histogram histogram(Phase phase) {
+            return histograms.get(phase);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+
+            sb.append(sql)
+              .append("\n  executions: ").append(executions)
+              .append(", exceptions: ").append(exceptions)
+              .append(", rows fetched: ").append(rowsFetched)
+              .append(", rows affected: ").append(rowsAffected)
+              .append(", batches: ").append(batches)
+              .append(", batched statements: ").append(batchedStatements);
+
+            for (Phase phase : PHASES)
+                if (histograms.get(phase).count() > 0)
+                    sb.append("\n  ").append(phase).append(": ").append(histograms.get(phase));
+
+            return sb.toString();
+        }
+    }
+
+    /**
+     * A snapshot of a latency histogram, in nanoseconds.
+     */
+    public static final class Histogram {
+        private final long[] buckets;
+        private final long   count;
+        private final long   sum;
+        private final long   min;
+        private final long   max;
+
+        Histogram(long[] buckets, long count, long sum, long min, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * The number of recorded values.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The sum of recorded values.
+         */
+        public long sum() {
+            return sum;
+        }
+
+        /**
+         * The smallest recorded value, or <code>0</code> if no values were
+         * recorded.
+         */
+        public long min() {
+            return count == 0 ? 0 : min;
+        }
+
+        /**
+         * The largest recorded value, or <code>0</code> if no values were
+         * recorded.
+         */
+        public long max() {
+            return count == 0 ? 0 : max;
+        }
+
+        /**
+         * The mean of recorded values, or <code>0</code> if no values were
+         * recorded.
+         */
+        public double mean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * The value below which the given percentage of recorded values fall,
+         * e.g. <code>99.0</code> for the 99th percentile, or <code>0</code>
+         * if no values were recorded.
+         */
+        public long percentile(double percentile) {
+            long total = 0;
+
+            for (long b : buckets)
+                total += b;
+
+            if (total == 0)
+                return 0;
+
+            long rank = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++)
+                if ((seen += buckets[i]) >= rank)
+                    return Math.max(min(), Math.min(max(), upperBound(i)));
+
+            return max();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                + ", mean=" + (long) mean()
+                + ", min=" + min()
+                + ", p50=" + percentile(50.0)
+                + ", p90=" + percentile(90.0)
+                + ", p99=" + percentile(99.0)
+                + ", max=" + max();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Recording
+    // -------------------------------------------------------------------------
+
+    private static final int SUB_BUCKET_BITS  = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT     = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    static final int bucket(long value) {
+        if (value < SUB_BUCKET_COUNT)
+            return (int) Math.max(0L, value);
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    static final long upperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT)
+            return bucket;
+
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lower = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * A lock free histogram recorder.
+     */
+    private static final class Recorder {
+        final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+        final LongAdder                       sum     = new LongAdder();
+        final LongAccumulator                 min     = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        final LongAccumulator                 max     = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void record(long value) {
+            int i = bucket(value);
+            LongAdder bucket = buckets.get(i);
+
+            if (bucket == null && !buckets.compareAndSet(i, null, bucket = new LongAdder()))
+                bucket = buckets.get(i);
+
+            bucket.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+
+        Histogram snapshot() {
+            long[] counts = new long[BUCKET_COUNT];
+            long count = 0;
+
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                LongAdder bucket = buckets.get(i);
+
+                if (bucket != null)
+                    count += counts[i] = bucket.sum();
+            }
+
+            return new Histogram(counts, count, sum.sum(), min.get(), max.get());
+        }
+    }
+
+    private static final class StatementRecorder {
+        final Recorder[] phases            = new Recorder[PHASES.length];
+        final LongAdder  executions        = new LongAdder();
+        final LongAdder  exceptions        = new LongAdder();
+        final LongAdder  rowsFetched       = new LongAdder();
+        final LongAdder  rowsAffected      = new LongAdder();
+        final LongAdder  batches           = new LongAdder();
+        final LongAdder  batchedStatements = new LongAdder();
+
+        StatementRecorder() {
+            for (int i = 0; i < phases.length; i++)
+                phases[i] = new Recorder();
+        }
+
+        StatementMetrics snapshot(String sql) {
+            Map<Phase, Histogram> histograms = new EnumMap<>(Phase.class);
+
+            for (Phase phase : PHASES)
+                histograms.put(phase, phases[phase.ordinal()].snapshot());
+
+            return new StatementMetrics(
+                sql,
+                executions.sum(),
+                exceptions.sum(),
+                rowsFetched.sum(),
+                rowsAffected.sum(),
+                batches.sum(),
+                batchedStatements.sum(),
+                histograms
+            );
+        }
+    }
+
+    /**
+     * The state of a single execution, which is reused after its end.
+     */
+    private static final class Execution {
+        final long[] start = new long[PHASES.length];
+        final long[] nanos = new long[PHASES.length];
+        int          recorded;
+        int          binds;
+        boolean      failed;
+
+        void reset() {
+            Arrays.fill(nanos, 0L);
+            recorded = 0;
+            binds = 0;
+            failed = false;
+        }
+
+        void start(Phase phase) {
+            start[phase.ordinal()] = System.nanoTime();
+        }
+
+        void end(Phase phase) {
+            nanos[phase.ordinal()] += System.nanoTime() - start[phase.ordinal()];
+            recorded |= 1 << phase.ordinal();
+        }
+    }
+
+    private final Execution execution(ExecuteContext ctx) {
+        return (Execution) ctx.data(this);
+    }
+
+    private final StatementRecorder recorder(String sql) {
+        StatementRecorder result = aliases.get(sql);
+
+        if (result == null) {
+            String normalised = normalise(sql);
+
+            if ((result = statements.get(normalised)) == null) {
+                if (statements.size() >= maxStatements)
+                    normalised = OTHER;
+
+                result = statements.computeIfAbsent(normalised, k -> new StatementRecorder());
+            }
+
+            // Raw SQL strings that vary by their inlined values are
+            // normalised again on each execution, beyond this bound
+            if (aliases.size() < maxStatements * 4)
+                aliases.put(sql, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalise a SQL string.
+     * <p>
+     * String and numeric literals are replaced by bind variable markers, and
+     * comma separated lists of two or more bind variable markers are collapsed
+     * into <code>?, ...</code>. Quoted identifiers are left untouched. This is
+     * a lexical approximation, which doesn't parse the SQL string.
+     */
+    @NotNull
+    public static String normalise(String sql) {
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            if (c == '\'') {
+                for (i++; i < length; i++)
+                    if (sql.charAt(i) == '\'')
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'')
+                            i++;
+                        else
+                            break;
+
+                marker(sb);
+            }
+            else if (c == '"' || c == '`') {
+                int end = sql.indexOf(c, i + 1);
+
+                if (end < 0)
+                    end = length - 1;
+
+                sb.append(sql, i, end + 1);
+                i = end;
+            }
+            else if (c >= '0' && c <= '9' && (i == 0 || !identifierPart(sql.charAt(i - 1)))) {
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.'))
+                    i++;
+
+                marker(sb);
+            }
+            else if (c == '?')
+                marker(sb);
+            else
+                sb.append(c);
+        }
+
+        return sb.length() == length && sql.contentEquals(sb) ? sql : sb.toString();
+    }
+
+    private static final boolean identifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Append a bind variable marker, or collapse it with a preceding list of
+     * markers.
+     */
+    private static final void marker(StringBuilder sb) {
+        int i = skipSpaces(sb, sb.length() - 1);
+
+        if (i >= 0 && sb.charAt(i) == ',') {
+            int j = skipSpaces(sb, i - 1);
+
+            if (j >= 0 && sb.charAt(j) == '?') {
+                sb.setLength(j + 1);
+                sb.append(", ...");
+                return;
+            }
+            else if (j >= 4 && sb.charAt(j) == '.' && sb.charAt(j - 1) == '.' && sb.charAt(j - 2) == '.') {
+                sb.setLength(j + 1);
+                return;
+            }
+        }
+
+        sb.append('?');
+    }
+
+    private static final int skipSpaces(StringBuilder sb, int i) {
+        while (i >= 0 && Character.isWhitespace(sb.charAt(i)))
+            i--;
+
+        return i;
+    }
+
+    private final void start(ExecuteContext ctx, Phase phase) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.start(phase);
+    }
+
+    private final void end(ExecuteContext ctx, Phase phase) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.end(phase);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        Execution execution = idle.get();
+
+        if (execution != null)
+            idle.set(null);
+        else
+            execution = new Execution();
+
+        ctx.data(this, execution);
+        execution.start(Phase.TOTAL);
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        start(ctx, Phase.RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        end(ctx, Phase.RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        start(ctx, Phase.PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        end(ctx, Phase.PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        start(ctx, Phase.BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null) {
+            execution.end(Phase.BIND);
+            execution.binds++;
+        }
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        start(ctx, Phase.EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        end(ctx, Phase.EXECUTE);
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        start(ctx, Phase.FETCH);
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        end(ctx, Phase.FETCH);
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution != null)
+            execution.failed = true;
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Execution execution = execution(ctx);
+
+        if (execution == null)
+            return;
+
+        execution.end(Phase.TOTAL);
+        ctx.data(this, null);
+
+        String[] batchSQL = ctx.batchSQL();
+        boolean batch = ctx.type() == ExecuteType.BATCH;
+        String sql = batch && batchSQL.length > 1 ? BATCH : ctx.sql();
+        StatementRecorder recorder = recorder(sql == null ? OTHER : sql);
+
+        for (Phase phase : PHASES)
+            if ((execution.recorded & (1 << phase.ordinal())) != 0)
+                recorder.phases[phase.ordinal()].record(execution.nanos[phase.ordinal()]);
+
+        recorder.executions.increment();
+
+        if (execution.failed)
+            recorder.exceptions.increment();
+
+        // Result queries report the number of fetched rows as ctx.rows()
+        boolean fetched = (execution.recorded & (1 << Phase.FETCH.ordinal())) != 0;
+
+        if (fetched && ctx.rows() > 0)
+            recorder.rowsFetched.add(ctx.rows());
+
+        if (batch) {
+            recorder.batches.increment();
+            recorder.batchedStatements.add(Math.max(batchSQL.length, execution.binds));
+
+            for (int rows : ctx.batchRows())
+                if (rows > 0)
+                    recorder.rowsAffected.add(rows);
+        }
+
+        else if (!fetched && ctx.rows() > 0)
+            recorder.rowsAffected.add(ctx.rows());
+
+        execution.reset();
+
+        if (idle.get() == null)
+            idle.set(execution);
+    }
+}
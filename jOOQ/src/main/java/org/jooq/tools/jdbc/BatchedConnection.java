@@ -48,10 +48,18 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
+import org.jooq.tools.jdbc.BatchedPreparedStatement.Bind;
+
 /**
  * A batching connection.
  * <p>
@@ -73,6 +81,31 @@ import java.util.regex.Pattern;
  * <li>Any other type of statement is created or other API is called, such as
  * {@link #commit()}.</li>
  * </ul>
+ * <p>
+ * <h3>Asynchronous flushing</h3>
+ * <p>
+ * When constructed with a flush connection and an {@link Executor}, batches
+ * that reach the <code>batchSize</code> are not executed on the calling
+ * thread. Instead, their bind values are handed off to a background flusher,
+ * which executes them in submission order on the flush connection, while the
+ * caller keeps buffering the next batch. The number of batches that may be
+ * pending at any time is bounded. When that bound is reached, the caller
+ * blocks until a pending batch has been flushed.
+ * <p>
+ * Any of the above events that trigger the execution of a batch also wait for
+ * all pending batches to be flushed. The first error encountered by the
+ * flusher is rethrown on the calling thread by the next call to
+ * {@link PreparedStatement#addBatch()}, or by the next event that waits for
+ * pending batches, including {@link #close()}. Batches that were still pending
+ * at the time of the error are discarded.
+ * <p>
+ * Batches are executed on the flush connection, not on the delegate
+ * connection, so they do not participate in the delegate connection's
+ * transaction. A {@link #rollback()} discards the rows that have not yet been
+ * handed off to the flusher, but it can't undo batches that were already
+ * handed off. The flush connection is typically a second connection from the
+ * same pool in auto-commit mode. Neither the flush connection nor the
+ * {@link Executor} are closed by this connection.
  *
  * @author Lukas Eder
  */
@@ -82,14 +115,62 @@ public class BatchedConnection extends DefaultConnection {
     String                   lastSQL;
     BatchedPreparedStatement lastStatement;
 
+    final Connection         flushDelegate;
+    final Executor           flushExecutor;
+    final int                maxPendingFlushes;
+    final Semaphore          flushPermits;
+    final AtomicLong         flushCount;
+    final AtomicLong         flushRowCount;
+    final AtomicLong         flushNanos;
+    final AtomicLong         flushMaxNanos;
+    final AtomicLong         flushWaitNanos;
+    CompletableFuture<Void>  flushTail;
+    volatile SQLException    flushError;
+
     public BatchedConnection(Connection delegate) {
         this(delegate, Integer.MAX_VALUE);
     }
 
     public BatchedConnection(Connection delegate, int batchSize) {
+        this(delegate, batchSize, null, null, 0);
+    }
+
+    /**
+     * Create a connection that flushes full batches asynchronously.
+     *
+     * @param delegate The connection to delegate all non-batched calls to.
+     * @param batchSize The number of buffered statements after which a batch
+     *            is flushed.
+     * @param flushDelegate The connection on which batches are flushed.
+     * @param flushExecutor The executor running the flusher.
+     * @param maxPendingFlushes The maximum number of batches that may be
+     *            pending at any time.
+     */
+    public BatchedConnection(
+        Connection delegate,
+        int batchSize,
+        Connection flushDelegate,
+        Executor flushExecutor,
+        int maxPendingFlushes
+    ) {
         super(delegate);
 
+        if (flushDelegate != null && flushExecutor == null)
+            throw new IllegalArgumentException("An executor is required for asynchronous flushing");
+        if (flushDelegate != null && maxPendingFlushes < 1)
+            throw new IllegalArgumentException("maxPendingFlushes must be at least 1: " + maxPendingFlushes);
+
         this.batchSize = batchSize;
+        this.flushDelegate = flushDelegate;
+        this.flushExecutor = flushExecutor;
+        this.maxPendingFlushes = maxPendingFlushes;
+        this.flushPermits = flushDelegate != null ? new Semaphore(maxPendingFlushes) : null;
+        this.flushCount = new AtomicLong();
+        this.flushRowCount = new AtomicLong();
+        this.flushNanos = new AtomicLong();
+        this.flushMaxNanos = new AtomicLong();
+        this.flushWaitNanos = new AtomicLong();
+        this.flushTail = CompletableFuture.completedFuture(null);
     }
 
     // -------------------------------------------------------------------------
@@ -119,12 +200,44 @@ public class BatchedConnection extends DefaultConnection {
     void executeLastBatch() throws SQLException {
         if (lastStatement != null) {
             if (lastStatement.batches > 0)
-                lastStatement.executeBatch();
+                if (flushDelegate != null)
+                    flushAsync(lastStatement);
+                else
+                    lastStatement.executeBatch();
+
+            safeClose(lastStatement);
+        }
+
+        clearLastBatch();
+
+        if (flushDelegate != null)
+            awaitFlush();
+    }
+
+    /**
+     * Prepare for a rollback of the delegate connection.
+     * <p>
+     * Asynchronously flushed batches don't participate in the delegate
+     * connection's transaction, so the rows of the last batch are discarded
+     * instead of being handed off to the flusher, which would commit them.
+     * Otherwise, the last batch is executed on the delegate connection, and
+     * rolled back along with it.
+     */
+    void rollbackLastBatch() throws SQLException {
+        if (flushDelegate == null) {
+            executeLastBatch();
+            return;
+        }
+
+        if (lastStatement != null) {
+            if (lastStatement.batches > 0)
+                lastStatement.discardRows();
 
             safeClose(lastStatement);
         }
 
         clearLastBatch();
+        awaitFlush();
     }
 
     void clearLastBatch() {
@@ -143,6 +256,159 @@ public class BatchedConnection extends DefaultConnection {
         lastSQL = s.sql;
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Asynchronous flushing
+    // -------------------------------------------------------------------------
+
+    /**
+     * Hand off the current batch of a statement to the flusher, blocking while
+     * the maximum number of batches is pending.
+     */
+    void flushAsync(BatchedPreparedStatement s) throws SQLException {
+        String sql = s.sql;
+        List<List<Bind>> rows = s.drainRows();
+
+        if (rows.isEmpty())
+            return;
+
+        long start = System.nanoTime();
+
+        try {
+            flushPermits.acquire();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for pending batches", e);
+        }
+        finally {
+            flushWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        flushTail = flushTail
+            .thenRunAsync(() -> flush(sql, rows), flushExecutor)
+            .handle((v, t) -> {
+                if (t != null)
+                    flushFailed(t);
+
+                flushPermits.release();
+                return null;
+            });
+    }
+
+    private void flush(String sql, List<List<Bind>> rows) {
+
+        // Discard pending batches after a previous error
+        if (flushError != null)
+            return;
+
+        long start = System.nanoTime();
+
+        try (PreparedStatement s = flushDelegate.prepareStatement(sql)) {
+            for (List<Bind> row : rows) {
+                BatchedPreparedStatement.bind(s, row);
+                s.addBatch();
+            }
+
+            s.executeBatch();
+        }
+        catch (SQLException e) {
+            flushFailed(e);
+        }
+        finally {
+            long nanos = System.nanoTime() - start;
+
+            flushCount.incrementAndGet();
+            flushRowCount.addAndGet(rows.size());
+            flushNanos.addAndGet(nanos);
+            flushMaxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    private void flushFailed(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null)
+            t = t.getCause();
+
+        if (flushError == null)
+            flushError = t instanceof SQLException
+                ? (SQLException) t
+                : new SQLException("Error while flushing batch", t);
+    }
+
+    /**
+     * Rethrow the first error encountered by the flusher, if any, after all
+     * pending batches have been discarded.
+     */
+    void checkFlushError() throws SQLException {
+        if (flushError != null) {
+            flushTail.join();
+
+            SQLException e = flushError;
+            flushError = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for all pending batches to be flushed.
+     */
+    void awaitFlush() throws SQLException {
+        flushTail.join();
+        checkFlushError();
+    }
+
+    /**
+     * Whether full batches are flushed asynchronously on a separate
+     * connection.
+     */
+    public boolean isFlushAsync() {
+        return flushDelegate != null;
+    }
+
+    /**
+     * The number of batches that have been handed off to the flusher, but
+     * have not yet been flushed.
+     */
+    public int getPendingFlushes() {
+        return flushPermits != null ? maxPendingFlushes - flushPermits.availablePermits() : 0;
+    }
+
+    /**
+     * The number of batches flushed asynchronously, including failed ones.
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * The number of rows flushed asynchronously, including failed ones.
+     */
+    public long getFlushRowCount() {
+        return flushRowCount.get();
+    }
+
+    /**
+     * The total time spent by the flusher executing batches, in nanoseconds.
+     */
+    public long getFlushNanos() {
+        return flushNanos.get();
+    }
+
+    /**
+     * The maximum time spent by the flusher executing a single batch, in
+     * nanoseconds.
+     */
+    public long getMaxFlushNanos() {
+        return flushMaxNanos.get();
+    }
+
+    /**
+     * The total time the calling thread was blocked, waiting for pending
+     * batches to make room for a new batch, in nanoseconds.
+     */
+    public long getFlushWaitNanos() {
+        return flushWaitNanos.get();
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Creating non-batchable statements
     // -------------------------------------------------------------------------
@@ -249,13 +515,13 @@ public class BatchedConnection extends DefaultConnection {
 
     @Override
     public void rollback() throws SQLException {
-        executeLastBatch();
+        rollbackLastBatch();
         super.rollback();
     }
 
     @Override
     public void rollback(Savepoint savepoint) throws SQLException {
-        executeLastBatch();
+        rollbackLastBatch();
         super.rollback(savepoint);
     }
 
@@ -37,9 +37,16 @@
  */
 package org.jooq.tools.jdbc;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jooq.tools.JooqLogger;
 
@@ -49,6 +56,10 @@ import org.jooq.tools.JooqLogger;
  * This statement doesn't execute immediately, but buffers all bind variables in
  * batch, delaying execution until a new SQL string is encountered. See
  * {@link BatchedConnection} for details.
+ * <p>
+ * If the {@link BatchedConnection} flushes batches asynchronously, bind values
+ * are recorded rather than passed on to the delegate statement, such that they
+ * can be replayed on the flushing connection.
  *
  * @author Lukas Eder
  * @see BatchedConnection
@@ -61,10 +72,25 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
     boolean                         executeImmediate;
     boolean                         getMoreResults = true;
 
+    /**
+     * The recorder of the current row's bind values, if bind values are
+     * recorded for asynchronous flushing, or <code>null</code> otherwise.
+     */
+    final BindRecorder              recorder;
+    List<List<Bind>>                rows;
+
     public BatchedPreparedStatement(String sql, BatchedConnection connection, PreparedStatement delegate) {
-        super(delegate, connection);
+        this(sql, connection, connection.flushDelegate != null ? new BindRecorder(delegate) : null, delegate);
+    }
+
+    private BatchedPreparedStatement(String sql, BatchedConnection connection, BindRecorder recorder, PreparedStatement delegate) {
+        super(recorder != null ? recorder.proxy() : delegate, connection);
 
         this.sql = sql;
+        this.recorder = recorder;
+
+        if (recorder != null)
+            this.rows = new ArrayList<>();
     }
 
     public BatchedConnection getBatchedConnection() throws SQLException {
@@ -109,6 +135,117 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
         resetBatches();
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Recorded bind values
+    // -------------------------------------------------------------------------
+
+    /**
+     * A recorded bind value that can be replayed on any statement.
+     */
+    static final class Bind {
+        final Method   method;
+        final Object[] args;
+
+        Bind(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+
+        void bind(PreparedStatement s) throws SQLException {
+            try {
+                method.invoke(s, args);
+            }
+            catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException)
+                    throw (SQLException) e.getCause();
+                else
+                    throw new SQLException("Error while binding " + method.getName(), e.getCause());
+            }
+            catch (IllegalAccessException e) {
+                throw new SQLException("Error while binding " + method.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} proxy that records all
+     * <code>setXYZ(int parameterIndex, ...)</code> calls as {@link Bind}
+     * values of the current row, instead of passing them on to the delegate
+     * statement, and that delegates all other calls.
+     */
+    static final class BindRecorder implements InvocationHandler {
+        final PreparedStatement delegate;
+        List<Bind>              row;
+
+        BindRecorder(PreparedStatement delegate) {
+            this.delegate = delegate;
+            this.row = new ArrayList<>();
+        }
+
+        PreparedStatement proxy() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                BindRecorder.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                this
+            );
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args != null
+                    && args.length > 1
+                    && method.getName().startsWith("set")
+                    && method.getParameterTypes()[0] == int.class) {
+                int parameterIndex = (Integer) args[0];
+
+                while (row.size() < parameterIndex)
+                    row.add(null);
+
+                row.set(parameterIndex - 1, new Bind(method, args));
+                return null;
+            }
+
+            if ("clearParameters".equals(method.getName()))
+                row.clear();
+
+            try {
+                return method.invoke(delegate, args);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    static void bind(PreparedStatement s, List<Bind> row) throws SQLException {
+        for (Bind bind : row)
+            if (bind != null)
+                bind.bind(s);
+    }
+
+    private void bindDelegate() throws SQLException {
+        if (recorder != null)
+            bind(recorder.delegate, recorder.row);
+    }
+
+    /**
+     * Discard the recorded rows of the current batch.
+     */
+    void discardRows() throws SQLException {
+        rows.clear();
+        logExecution();
+    }
+
+    /**
+     * Hand off the recorded rows of the current batch.
+     */
+    List<List<Bind>> drainRows() throws SQLException {
+        List<List<Bind>> result = rows;
+        rows = new ArrayList<>();
+        logExecution();
+        return result;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Wrappers
     // -------------------------------------------------------------------------
@@ -132,6 +269,7 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
     public int executeUpdate() throws SQLException {
         if (executeImmediate) {
             logExecuteImmediate();
+            bindDelegate();
             return super.executeUpdate();
         }
         else {
@@ -146,6 +284,7 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
 
         if (executeImmediate) {
             logExecuteImmediate();
+            bindDelegate();
             return super.execute();
         }
         else {
@@ -192,15 +331,29 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
 
     @Override
     public void addBatch() throws SQLException {
-        getBatchedConnection().setBatch(this);
+        BatchedConnection connection = getBatchedConnection();
+        connection.checkFlushError();
+        connection.setBatch(this);
         batches++;
         logBatch();
-        super.addBatch();
 
-        if (batches >= getBatchedConnection().batchSize) {
-            getBatchedConnection().executeLastBatch();
-            batches = 0;
-            super.clearBatch();
+        if (recorder != null) {
+            rows.add(recorder.row);
+
+            // Like JDBC, retain bind values for subsequent rows
+            recorder.row = new ArrayList<>(recorder.row);
+
+            if (batches >= connection.batchSize)
+                connection.flushAsync(this);
+        }
+        else {
+            super.addBatch();
+
+            if (batches >= connection.batchSize) {
+                connection.executeLastBatch();
+                batches = 0;
+                super.clearBatch();
+            }
         }
     }
 
@@ -211,12 +364,23 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
 
     @Override
     public int[] executeBatch() throws SQLException {
+        if (recorder != null) {
+            int[] result = new int[batches];
+            Arrays.fill(result, SUCCESS_NO_INFO);
+            getBatchedConnection().flushAsync(this);
+            getBatchedConnection().awaitFlush();
+            return result;
+        }
+
         logExecution();
         return super.executeBatch();
     }
 
     @Override
     public long[] executeLargeBatch() throws SQLException {
+        if (recorder != null)
+            return Arrays.stream(executeBatch()).asLongStream().toArray();
+
         logExecution();
         return super.executeLargeBatch();
     }
@@ -303,6 +467,7 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
     public ResultSet executeQuery() throws SQLException {
         if (batches == 0) {
             logExecuteImmediate();
+            bindDelegate();
             return super.executeQuery();
         }
         else